@@ -0,0 +1,81 @@
+package com.panda.salon_mgt_backend.configs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Prepares trigram search on {@code booking_view.search_text}.
+ * <p>
+ * ddl-auto creates the column but cannot express a GIN index or the extension, so this
+ * installs {@code pg_trgm}, builds the index without blocking writes, and backfills rows
+ * projected before the column existed in small chunks. Once the backfill finishes the column is
+ * made NOT NULL, which is what later startups check to skip it. The index on the retired
+ * {@code bookings.search_text} column is dropped so booking inserts stop maintaining it.
+ */
+@Slf4j
+@Configuration
+@Order(2)
+@RequiredArgsConstructor
+public class BookingSearchBootstrap implements CommandLineRunner {
+
+    private static final int BACKFILL_CHUNK = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            jdbcTemplate.execute("create extension if not exists pg_trgm");
+            jdbcTemplate.execute("""
+                    create index concurrently if not exists idx_booking_view_search_trgm
+                    on booking_view using gin (search_text gin_trgm_ops)
+                    """);
+            jdbcTemplate.execute("drop index concurrently if exists idx_booking_search_trgm");
+        } catch (DataAccessException e) {
+            // search still works without the index, just slower
+            log.warn("booking.search.index_unavailable reason={}", e.getMostSpecificCause().getMessage());
+        }
+
+        Boolean backfilled = jdbcTemplate.queryForObject(
+                """
+                        select exists (
+                            select 1 from information_schema.columns
+                            where table_name = 'booking_view'
+                              and column_name = 'search_text'
+                              and is_nullable = 'NO'
+                        )
+                        """,
+                Boolean.class
+        );
+
+        if (Boolean.TRUE.equals(backfilled)) {
+            return;
+        }
+
+        // coalesce keeps every row non-null, so each chunk shrinks the remaining set
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update("""
+                    update booking_view v
+                    set search_text = lower(
+                        coalesce(v.customer_name, '') || ' ' ||
+                        coalesce(v.staff_name, '') || ' ' ||
+                        coalesce(v.service_name, '')
+                    )
+                    where v.booking_id in (
+                        select booking_id from booking_view where search_text is null limit ?
+                    )
+                    """, BACKFILL_CHUNK);
+            total += updated;
+        } while (updated == BACKFILL_CHUNK);
+
+        jdbcTemplate.execute("alter table booking_view alter column search_text set not null");
+        log.info("booking.search.backfilled rows={}", total);
+    }
+}
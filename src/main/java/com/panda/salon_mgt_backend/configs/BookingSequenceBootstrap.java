@@ -0,0 +1,78 @@
+package com.panda.salon_mgt_backend.configs;
+
+import com.panda.salon_mgt_backend.models.Booking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Aligns {@code bookings_id_seq} with the pooled generator on {@link Booking}.
+ * <p>
+ * Databases created before the switch have an IDENTITY column whose sequence increments by 1;
+ * the pooled optimizer would then hand out overlapping id blocks. This bumps the increment to
+ * the allocation size and moves the sequence past the current max id (never backwards).
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BookingSequenceBootstrap implements CommandLineRunner {
+
+    private static final String SEQUENCE = "bookings_id_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+
+        Long increment = jdbcTemplate.query(
+                "select increment_by from pg_sequences where sequencename = ?",
+                rs -> rs.next() ? rs.getLong(1) : null,
+                SEQUENCE
+        );
+
+        if (increment == null) {
+            log.warn("booking.sequence.missing sequence={}", SEQUENCE);
+            return;
+        }
+
+        if (increment == Booking.ID_ALLOCATION_SIZE) {
+            return;
+        }
+
+        Boolean identity = jdbcTemplate.queryForObject(
+                """
+                        select exists (
+                            select 1 from information_schema.columns
+                            where table_name = 'bookings'
+                              and column_name = 'id'
+                              and is_identity = 'YES'
+                        )
+                        """,
+                Boolean.class
+        );
+
+        if (Boolean.TRUE.equals(identity)) {
+            jdbcTemplate.execute("alter table bookings alter column id set increment by " + Booking.ID_ALLOCATION_SIZE);
+        } else {
+            jdbcTemplate.execute("alter sequence " + SEQUENCE + " increment by " + Booking.ID_ALLOCATION_SIZE);
+        }
+
+        jdbcTemplate.queryForObject(
+                """
+                        select setval(
+                            '%s',
+                            greatest(
+                                (select last_value from %s),
+                                (select coalesce(max(id), 1) from bookings)
+                            )
+                        )
+                        """.formatted(SEQUENCE, SEQUENCE),
+                Long.class
+        );
+
+        log.info("booking.sequence.aligned sequence={} increment={} previousIncrement={}",
+                SEQUENCE, Booking.ID_ALLOCATION_SIZE, increment);
+    }
+}
@@ -0,0 +1,60 @@
+package com.panda.salon_mgt_backend.configs;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Projects bookings written before {@code booking_view} existed, in chunks, oldest first.
+ * New bookings are projected by the write path, so this is a no-op once caught up.
+ */
+@Slf4j
+@Configuration
+@Order(1)
+@RequiredArgsConstructor
+public class BookingViewBootstrap implements CommandLineRunner {
+
+    private static final int BACKFILL_CHUNK = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+
+        int total = 0;
+        int inserted;
+        do {
+            inserted = jdbcTemplate.update("""
+                    insert into booking_view (
+                        booking_id, salon_id, service_id, service_name, service_price,
+                        staff_id, staff_name, customer_id, customer_name,
+                        start_time, end_time, status, search_text
+                    )
+                    select b.id, b.salon_id, s.service_id, s.service_name, s.service_price,
+                           st.user_id, st.username, c.user_id, c.username,
+                           b.start_time, b.end_time, b.status,
+                           lower(
+                               coalesce(c.username, '') || ' ' ||
+                               coalesce(st.username, '') || ' ' ||
+                               coalesce(s.service_name, '')
+                           )
+                    from bookings b
+                    join services s on s.service_id = b.service_id
+                    join users st on st.user_id = b.staff_id
+                    join users c on c.user_id = b.customer_id
+                    where not exists (select 1 from booking_view v where v.booking_id = b.id)
+                    order by b.id
+                    limit ?
+                    on conflict (booking_id) do nothing
+                    """, BACKFILL_CHUNK);
+            total += inserted;
+        } while (inserted == BACKFILL_CHUNK);
+
+        if (total > 0) {
+            log.info("booking.view.backfilled rows={}", total);
+        }
+    }
+}
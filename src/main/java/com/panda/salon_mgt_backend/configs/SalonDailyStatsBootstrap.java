@@ -0,0 +1,28 @@
+package com.panda.salon_mgt_backend.configs;
+
+import com.panda.salon_mgt_backend.configs.crons.SalonDailyStatsRebuildJob;
+import com.panda.salon_mgt_backend.repositories.SalonDailyStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Seeds {@code salon_daily_stats} on first start. Runs after {@link BookingViewBootstrap},
+ * since the rollup is rebuilt from {@code booking_view}.
+ */
+@Configuration
+@Order(2)
+@RequiredArgsConstructor
+public class SalonDailyStatsBootstrap implements CommandLineRunner {
+
+    private final SalonDailyStatsRepository salonDailyStatsRepository;
+    private final SalonDailyStatsRebuildJob salonDailyStatsRebuildJob;
+
+    @Override
+    public void run(String... args) {
+        if (salonDailyStatsRepository.count() == 0) {
+            salonDailyStatsRebuildJob.rebuildAll();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.panda.salon_mgt_backend.configs;
+
+import com.panda.salon_mgt_backend.services.booking.SalonCalendars;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds {@code salon_leaderboard_counts} from completed rows in {@code booking_view} on first start.
+ * Runs after {@link BookingViewBootstrap}; later completions are counted by the write path.
+ */
+@Slf4j
+@Configuration
+@Order(2)
+@RequiredArgsConstructor
+public class SalonLeaderboardBootstrap implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SalonCalendars salonCalendars;
+
+    @Override
+    public void run(String... args) {
+
+        Boolean seeded = jdbcTemplate.queryForObject(
+                "select exists (select 1 from salon_leaderboard_counts)", Boolean.class
+        );
+        if (Boolean.TRUE.equals(seeded)) {
+            return;
+        }
+
+        // days in each salon's own zone, as SalonLeaderboards counts them
+        String zone = salonCalendars.defaultZone().getId();
+        int inserted = jdbcTemplate.update("""
+                insert into salon_leaderboard_counts (
+                    salon_id, stat_date, subject, subject_id, subject_name, completed
+                )
+                select v.salon_id, cast(v.start_time at time zone coalesce(s.timezone, ?) as date), 'STAFF',
+                       v.staff_id, max(v.staff_name), count(*)
+                from booking_view v
+                join salons s on s.salon_id = v.salon_id
+                where v.status = 'COMPLETED'
+                group by 1, 2, 4
+                union all
+                select v.salon_id, cast(v.start_time at time zone coalesce(s.timezone, ?) as date), 'SERVICE',
+                       v.service_id, max(v.service_name), count(*)
+                from booking_view v
+                join salons s on s.salon_id = v.salon_id
+                where v.status = 'COMPLETED'
+                group by 1, 2, 4
+                """, zone, zone);
+
+        if (inserted > 0) {
+            log.info("analytics.leaderboard.backfilled rows={}", inserted);
+        }
+    }
+}
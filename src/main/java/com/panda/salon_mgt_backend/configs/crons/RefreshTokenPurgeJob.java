@@ -0,0 +1,48 @@
+package com.panda.salon_mgt_backend.configs.crons;
+
+import com.panda.salon_mgt_backend.security.services.RefreshTokenPurger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@code refresh_tokens} bounded: deletes dead tokens in batches, one transaction per
+ * batch, until none are left.
+ */
+@Component
+@Slf4j
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenPurger refreshTokenPurger;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public RefreshTokenPurgeJob(
+            RefreshTokenPurger refreshTokenPurger,
+            @Value("${security.refresh-tokens.purge.enabled:true}") boolean enabled,
+            @Value("${security.refresh-tokens.purge.batch-size:1000}") int batchSize
+    ) {
+        this.refreshTokenPurger = refreshTokenPurger;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${security.refresh-tokens.purge.cron:0 20 * * * *}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+
+        int total = 0;
+        int purged;
+        do {
+            purged = refreshTokenPurger.purgeBatch(batchSize);
+            total += purged;
+        } while (purged == batchSize);
+
+        if (total > 0) {
+            log.info("auth.refresh_tokens.purged total={}", total);
+        }
+    }
+}
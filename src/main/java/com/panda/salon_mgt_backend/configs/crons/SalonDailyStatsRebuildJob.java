@@ -0,0 +1,40 @@
+package com.panda.salon_mgt_backend.configs.crons;
+
+import com.panda.salon_mgt_backend.repositories.SalonDailyStatsRepository;
+import com.panda.salon_mgt_backend.services.booking.SalonDailyStatsProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Regenerates {@code salon_daily_stats} from {@code booking_view}, one salon per transaction.
+ * Corrects any drift in the incremental counters (e.g. an increment racing a rebuild).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SalonDailyStatsRebuildJob {
+
+    private final SalonDailyStatsRepository salonDailyStatsRepository;
+    private final SalonDailyStatsProjector salonDailyStatsProjector;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void rebuildAll() {
+
+        int salons = 0;
+        int days = 0;
+
+        for (Long salonId : salonDailyStatsRepository.findSalonIdsWithBookings()) {
+            try {
+                days += salonDailyStatsProjector.rebuild(salonId);
+                salons++;
+            } catch (DataAccessException ex) {
+                log.warn("analytics.daily_stats.rebuild_failed salonId={}", salonId, ex);
+            }
+        }
+
+        log.info("analytics.daily_stats.rebuilt salons={} days={}", salons, days);
+    }
+}
@@ -0,0 +1,87 @@
+package com.panda.salon_mgt_backend.configs.crons;
+
+import com.panda.salon_mgt_backend.models.SalonForecastModel;
+import com.panda.salon_mgt_backend.repositories.SalonDailyStatsRepository;
+import com.panda.salon_mgt_backend.services.analytics.forecast.SalonForecasts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Refits every active salon's forecast model after the nightly stats rebuild.
+ * Salons are independent, so they are fitted in parallel on a bounded pool.
+ * Models of salons that fell out of the activity window are dropped.
+ */
+@Component
+@Slf4j
+public class SalonForecastJob {
+
+    // salons with no bookings in this window lose their model until they book again
+    private static final int ACTIVE_WITHIN_DAYS = 90;
+
+    private final SalonDailyStatsRepository salonDailyStatsRepository;
+    private final SalonForecasts salonForecasts;
+    private final int parallelism;
+
+    public SalonForecastJob(
+            SalonDailyStatsRepository salonDailyStatsRepository,
+            SalonForecasts salonForecasts,
+            @Value("${analytics.forecast.parallelism:4}") int parallelism
+    ) {
+        this.salonDailyStatsRepository = salonDailyStatsRepository;
+        this.salonForecasts = salonForecasts;
+        this.parallelism = parallelism;
+    }
+
+    @Scheduled(cron = "0 45 3 * * *")
+    public void refitAll() {
+
+        long started = System.nanoTime();
+        // salon zones shift this by at most a day, which does not matter for a 90-day activity filter
+        LocalDate since = LocalDate.now(ZoneOffset.UTC).minusDays(ACTIVE_WITHIN_DAYS);
+        List<Long> salonIds = salonDailyStatsRepository.findActiveSalonIds(since);
+
+        List<CompletableFuture<SalonForecastModel>> fits = new ArrayList<>(salonIds.size());
+        try (ExecutorService pool = Executors.newFixedThreadPool(parallelism)) {
+            for (Long salonId : salonIds) {
+                fits.add(CompletableFuture
+                        .supplyAsync(() -> salonForecasts.refit(salonId), pool)
+                        .exceptionally(ex -> {
+                            log.warn("analytics.forecast.fit_failed salonId={}", salonId, ex);
+                            return null;
+                        }));
+            }
+        }
+
+        int dropped = salonForecasts.retainOnly(salonIds);
+
+        int fitted = 0;
+        double fitMillis = 0;
+        for (CompletableFuture<SalonForecastModel> fit : fits) {
+            SalonForecastModel model = fit.join();
+            if (model == null) {
+                continue;
+            }
+            fitted++;
+            fitMillis += model.getFitMillis();
+        }
+
+        double n = Math.max(fitted, 1);
+        log.info("analytics.forecast.refit salons={} fitted={} dropped={} meanFitMillis={} tookMillis={}",
+                salonIds.size(),
+                fitted,
+                dropped,
+                String.format("%.2f", fitMillis / n),
+                (System.nanoTime() - started) / 1_000_000
+        );
+    }
+}
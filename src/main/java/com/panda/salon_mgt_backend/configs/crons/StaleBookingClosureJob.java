@@ -0,0 +1,47 @@
+package com.panda.salon_mgt_backend.configs.crons;
+
+import com.panda.salon_mgt_backend.services.booking.StaleBookingCloser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sweeps past CONFIRMED bookings in batches, one transaction per batch, until none are left.
+ */
+@Component
+@Slf4j
+public class StaleBookingClosureJob {
+
+    private final StaleBookingCloser staleBookingCloser;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public StaleBookingClosureJob(
+            StaleBookingCloser staleBookingCloser,
+            @Value("${booking.auto-close.enabled:true}") boolean enabled,
+            @Value("${booking.auto-close.batch-size:500}") int batchSize
+    ) {
+        this.staleBookingCloser = staleBookingCloser;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${booking.auto-close.cron:0 5 * * * *}")
+    public void closeStaleBookings() {
+        if (!enabled) {
+            return;
+        }
+
+        int total = 0;
+        int closed;
+        do {
+            closed = staleBookingCloser.closeBatch(batchSize);
+            total += closed;
+        } while (closed == batchSize);
+
+        if (total > 0) {
+            log.info("booking.auto_close.finished total={}", total);
+        }
+    }
+}
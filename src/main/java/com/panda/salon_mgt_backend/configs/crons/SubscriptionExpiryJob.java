@@ -3,6 +3,7 @@ package com.panda.salon_mgt_backend.configs.crons;
 import com.panda.salon_mgt_backend.models.*;
 import com.panda.salon_mgt_backend.repositories.PlanRepository;
 import com.panda.salon_mgt_backend.repositories.SubscriptionRepository;
+import com.panda.salon_mgt_backend.utils.subscription.EntitlementCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -22,6 +23,7 @@ public class SubscriptionExpiryJob {
 
     private final SubscriptionRepository subscriptionRepository;
     private final PlanRepository planRepository;
+    private final EntitlementCache entitlementCache;
 
     @Transactional
     @Scheduled(cron = "0 0 2 * * *")
@@ -59,6 +61,7 @@ public class SubscriptionExpiryJob {
                         .build();
 
                 subscriptionRepository.save(fallback);
+                entitlementCache.evict(sub.getSalon().getSalonId());
 
                 continue;
             }
@@ -70,6 +73,7 @@ public class SubscriptionExpiryJob {
                     sub.getEndDate().isBefore(now)) {
 
                 sub.setStatus(SubscriptionStatus.GRACE);
+                entitlementCache.evict(sub.getSalon().getSalonId());
 
                 log.info("subscription.entered_grace salonId={} plan={} graceStart={}",
                         sub.getSalon().getSalonId(),
@@ -108,6 +112,7 @@ public class SubscriptionExpiryJob {
                             .build();
 
                     subscriptionRepository.save(fallback);
+                    entitlementCache.evict(salon.getSalonId());
 
                     log.info("subscription.fallback salonId={} newPlan=FREE activatedAt={}",
                             salon.getSalonId(),
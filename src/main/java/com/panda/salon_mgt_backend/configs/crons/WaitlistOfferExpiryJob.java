@@ -0,0 +1,23 @@
+package com.panda.salon_mgt_backend.configs.crons;
+
+import com.panda.salon_mgt_backend.services.booking.WaitlistMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistOfferExpiryJob {
+
+    private final WaitlistMatcher waitlistMatcher;
+
+    @Scheduled(fixedDelay = 30_000)
+    public void expireOffers() {
+        int expired = waitlistMatcher.expireOffers();
+        if (expired > 0) {
+            log.info("waitlist.offers_expired count={}", expired);
+        }
+    }
+}
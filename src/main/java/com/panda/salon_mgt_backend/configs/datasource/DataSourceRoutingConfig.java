@@ -0,0 +1,93 @@
+package com.panda.salon_mgt_backend.configs.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Replaces the auto-configured pool with a primary/replica pair behind
+ * {@link ReadReplicaRoutingDataSource}.
+ * <p>
+ * The primary is built from {@code spring.datasource.*} (pool settings under
+ * {@code spring.datasource.hikari}). The replica is enabled by {@code app.datasource.replica.url};
+ * its credentials default to the primary's and its pool settings bind from
+ * {@code app.datasource.replica.hikari}. Without a replica URL every transaction uses the primary.
+ * For local testing the replica URL can point at a second Postgres instance, or at the primary
+ * itself as a stand-in.
+ */
+@Slf4j
+@Configuration
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Value("${app.datasource.replica.read-your-writes-seconds:5}") long windowSeconds
+    ) {
+        return new ReadYourWrites(Duration.ofSeconds(windowSeconds));
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            DataSourceProperties properties,
+            Environment environment,
+            ReadYourWrites readYourWrites,
+            @Value("${app.datasource.replica.url:}") String replicaUrl,
+            @Value("${app.datasource.replica.username:}") String replicaUsername,
+            @Value("${app.datasource.replica.password:}") String replicaPassword,
+            @Value("${app.datasource.replica.max-lag-seconds:10}") long maxLagSeconds
+    ) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = null;
+        if (StringUtils.hasText(replicaUrl)) {
+            replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(replicaUrl)
+                    .username(StringUtils.hasText(replicaUsername) ? replicaUsername : properties.determineUsername())
+                    .password(StringUtils.hasText(replicaPassword) ? replicaPassword : properties.determinePassword())
+                    .build();
+            binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName("replica");
+            replica.setReadOnly(true);
+        }
+
+        log.info("datasource.routing replica={}", replica != null ? replicaUrl : "none");
+
+        return new ReadReplicaRoutingDataSource(
+                primary,
+                replica,
+                readYourWrites,
+                new ReplicaLagMonitor(replica, Duration.ofSeconds(maxLagSeconds))
+        );
+    }
+
+    // registered so its @Scheduled sampling runs
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaRoutingDataSource routing) {
+        return routing.lagMonitor();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
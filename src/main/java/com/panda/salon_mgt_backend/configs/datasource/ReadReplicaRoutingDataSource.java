@@ -0,0 +1,143 @@
+package com.panda.salon_mgt_backend.configs.datasource;
+
+import com.panda.salon_mgt_backend.payloads.DataSourceRoutingDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary.
+ * <p>
+ * The key is resolved when a physical connection is fetched, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: by the first statement the transaction's read-only
+ * flag is bound. Read-only transactions still go to the primary when the replica is lagging
+ * or unreachable, or when the current principal committed a write within the read-your-writes
+ * window. Committed read-write transactions with an authenticated principal open that window.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public enum Pool {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;   // null when no replica is configured
+    private final ReadYourWrites readYourWrites;
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final LongAdder primaryCheckouts = new LongAdder();
+    private final LongAdder replicaCheckouts = new LongAdder();
+    private final LongAdder readYourWritesFallbacks = new LongAdder();
+    private final LongAdder lagFallbacks = new LongAdder();
+
+    public ReadReplicaRoutingDataSource(
+            HikariDataSource primary,
+            HikariDataSource replica,
+            ReadYourWrites readYourWrites,
+            ReplicaLagMonitor lagMonitor
+    ) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWrites = readYourWrites;
+        this.lagMonitor = lagMonitor;
+
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(Pool.PRIMARY, primary);
+        targets.put(Pool.REPLICA, replica != null ? replica : primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Pool pool = route();
+        (pool == Pool.PRIMARY ? primaryCheckouts : replicaCheckouts).increment();
+        return pool;
+    }
+
+    private Pool route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Pool.PRIMARY;
+        }
+
+        String principal = ReadYourWrites.currentPrincipal();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (principal != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.recordWrite(principal);
+                    }
+                });
+            }
+            return Pool.PRIMARY;
+        }
+
+        if (replica == null) {
+            return Pool.PRIMARY;
+        }
+        if (!lagMonitor.isUsable()) {
+            lagFallbacks.increment();
+            return Pool.PRIMARY;
+        }
+        if (principal != null && readYourWrites.recentlyWrote(principal)) {
+            readYourWritesFallbacks.increment();
+            return Pool.PRIMARY;
+        }
+        return Pool.REPLICA;
+    }
+
+    public ReplicaLagMonitor lagMonitor() {
+        return lagMonitor;
+    }
+
+    public DataSourceRoutingDto snapshot() {
+        List<DataSourceRoutingDto.PoolStats> pools = replica == null
+                ? List.of(stats(primary, primaryCheckouts.sum()))
+                : List.of(stats(primary, primaryCheckouts.sum()), stats(replica, replicaCheckouts.sum()));
+
+        return new DataSourceRoutingDto(
+                replica != null,
+                replica != null && lagMonitor.isUsable(),
+                replica != null ? lagMonitor.lastLagSeconds() : 0,
+                readYourWritesFallbacks.sum(),
+                lagFallbacks.sum(),
+                readYourWrites.trackedPrincipals(),
+                pools
+        );
+    }
+
+    private static DataSourceRoutingDto.PoolStats stats(HikariDataSource pool, long checkouts) {
+        HikariPoolMXBean mx = pool.getHikariPoolMXBean();
+
+        if (mx == null) {
+            return new DataSourceRoutingDto.PoolStats(pool.getPoolName(), checkouts, 0, 0, 0, 0);
+        }
+        return new DataSourceRoutingDto.PoolStats(
+                pool.getPoolName(),
+                checkouts,
+                mx.getActiveConnections(),
+                mx.getIdleConnections(),
+                mx.getTotalConnections(),
+                mx.getThreadsAwaitingConnection()
+        );
+    }
+
+    @Override
+    public void close() {
+        if (replica != null) {
+            replica.close();
+        }
+        primary.close();
+    }
+}
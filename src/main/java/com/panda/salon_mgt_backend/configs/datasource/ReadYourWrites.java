@@ -0,0 +1,56 @@
+package com.panda.salon_mgt_backend.configs.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which principals committed a write recently, so their reads stay on the primary
+ * until the replica has had {@code app.datasource.replica.read-your-writes-seconds} to catch up.
+ * <p>
+ * Tracked per node: a user whose next request lands on another node may read from the replica.
+ */
+public class ReadYourWrites {
+
+    private final long windowMillis;
+    private final ConcurrentHashMap<String, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    public void recordWrite(String principal) {
+        primaryUntil.put(principal, System.currentTimeMillis() + windowMillis);
+    }
+
+    public boolean recentlyWrote(String principal) {
+        Long until = primaryUntil.get(principal);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    public int trackedPrincipals() {
+        return primaryUntil.size();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        primaryUntil.values().removeIf(until -> until <= now);
+    }
+
+    /**
+     * Name of the authenticated principal on this thread, or null for anonymous and background work.
+     */
+    static String currentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return auth.getName();
+    }
+}
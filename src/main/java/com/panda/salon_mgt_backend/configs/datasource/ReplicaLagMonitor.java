@@ -0,0 +1,71 @@
+package com.panda.salon_mgt_backend.configs.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Samples replication lag on the replica and takes it out of rotation while the lag exceeds
+ * {@code app.datasource.replica.max-lag-seconds} or the replica cannot be reached.
+ * <p>
+ * A replica that has replayed everything it received reports zero lag, so an idle primary
+ * does not make the replica look stale. A non-standby stand-in always reports zero.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = """
+            select case
+                when not pg_is_in_recovery() then 0
+                when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0)
+            end
+            """;
+
+    private final JdbcTemplate replica;   // null when no replica is configured
+    private final double maxLagSeconds;
+
+    private volatile boolean usable = true;
+    private volatile double lastLagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag) {
+        this.replica = replica != null ? new JdbcTemplate(replica) : null;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public double lastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-millis:5000}")
+    public void sample() {
+        if (replica == null) {
+            return;
+        }
+
+        boolean wasUsable = usable;
+
+        try {
+            Double lag = replica.queryForObject(LAG_SQL, Double.class);
+            lastLagSeconds = lag == null ? 0 : lag;
+            usable = lastLagSeconds <= maxLagSeconds;
+        } catch (RuntimeException ex) {
+            usable = false;
+            if (wasUsable) {
+                log.warn("datasource.replica.unreachable error={}", ex.getMessage());
+            }
+            return;
+        }
+
+        if (wasUsable != usable) {
+            log.warn("datasource.replica.{} lagSeconds={}", usable ? "resumed" : "lagging", lastLagSeconds);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.panda.salon_mgt_backend.controllers;
+
+import com.panda.salon_mgt_backend.configs.datasource.ReadReplicaRoutingDataSource;
+import com.panda.salon_mgt_backend.payloads.DataSourceRoutingDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/datasource")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+public class AdminDataSourceController {
+
+    private final ReadReplicaRoutingDataSource routingDataSource;
+
+    @GetMapping
+    public DataSourceRoutingDto snapshot() {
+        return routingDataSource.snapshot();
+    }
+}
@@ -0,0 +1,35 @@
+package com.panda.salon_mgt_backend.controllers;
+
+import com.panda.salon_mgt_backend.payloads.LoginProtectionStatsDto;
+import com.panda.salon_mgt_backend.security.services.BoundedPasswordEncoder;
+import com.panda.salon_mgt_backend.security.services.LoginAttemptLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/login-protection")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+public class AdminLoginProtectionController {
+
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+
+    @GetMapping
+    public LoginProtectionStatsDto stats() {
+        return new LoginProtectionStatsDto(
+                passwordEncoder.hashes(),
+                passwordEncoder.averageHashMillis(),
+                passwordEncoder.maxHashMillis(),
+                passwordEncoder.activeThreads(),
+                passwordEncoder.queued(),
+                passwordEncoder.rejections(),
+                loginAttemptLimiter.ipRejections(),
+                loginAttemptLimiter.emailRejections(),
+                loginAttemptLimiter.trackedKeys()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.panda.salon_mgt_backend.controllers;
+
+import com.panda.salon_mgt_backend.payloads.TokenCacheStatsDto;
+import com.panda.salon_mgt_backend.security.jwt.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/token-cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SUPER_ADMIN')")
+public class AdminTokenCacheController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @GetMapping
+    public TokenCacheStatsDto stats() {
+        return verifiedTokenCache.stats();
+    }
+}
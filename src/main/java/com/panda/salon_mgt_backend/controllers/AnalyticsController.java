@@ -1,5 +1,6 @@
 package com.panda.salon_mgt_backend.controllers;
 
+import com.panda.salon_mgt_backend.models.LeaderboardWindow;
 import com.panda.salon_mgt_backend.models.TrendRange;
 import com.panda.salon_mgt_backend.payloads.LeaderboardItemDTO;
 import com.panda.salon_mgt_backend.services.analytics.AnalyticsService;
@@ -46,14 +47,20 @@ public class AnalyticsController {
 
     @GetMapping("/leaderboard/staff")
     @PreAuthorize("hasRole('SALON_ADMIN')")
-    public List<LeaderboardItemDTO> topStaff(Authentication auth) {
-        return analyticsService.getTopStaff(auth);
+    public List<LeaderboardItemDTO> topStaff(
+            Authentication auth,
+            @RequestParam(required = false) LeaderboardWindow window
+    ) {
+        return analyticsService.getTopStaff(auth, window);
     }
 
     @GetMapping("/leaderboard/services")
     @PreAuthorize("hasRole('SALON_ADMIN')")
-    public List<LeaderboardItemDTO> topServices(Authentication auth) {
-        return analyticsService.getTopServices(auth);
+    public List<LeaderboardItemDTO> topServices(
+            Authentication auth,
+            @RequestParam(required = false) LeaderboardWindow window
+    ) {
+        return analyticsService.getTopServices(auth, window);
     }
 
 }
@@ -25,13 +25,13 @@ public class AuthController {
     private final UserService userService;
 
     @PostMapping("/register")
-    public ResponseEntity<MessageResponse> registerUser(@RequestBody UserRegisterRequest userRegisterRequest) {
-        return authService.registerUser(userRegisterRequest);
+    public ResponseEntity<MessageResponse> registerUser(@RequestBody UserRegisterRequest userRegisterRequest, HttpServletRequest request) {
+        return authService.registerUser(userRegisterRequest, request);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<TokenResponse> login(@RequestBody UserLoginRequest loginRequest, HttpServletResponse response) {
-        return ResponseEntity.ok(authService.loginUser(loginRequest, response));
+    public ResponseEntity<TokenResponse> login(@RequestBody UserLoginRequest loginRequest, HttpServletRequest request, HttpServletResponse response) {
+        return ResponseEntity.ok(authService.loginUser(loginRequest, request, response));
     }
 
     //access and refresh token renew karne lie lie api
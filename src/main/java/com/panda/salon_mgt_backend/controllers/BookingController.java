@@ -31,6 +31,46 @@ public class BookingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(booking);
     }
 
+    @PostMapping("/recurring")
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<List<BookingResponse>> createRecurring(
+            @RequestBody RecurringBookingRequest request,
+            Authentication auth
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(bookingService.createRecurringBookings(request, auth));
+    }
+
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<List<BookingResponse>> createBulk(
+            @RequestBody BulkBookingRequest request,
+            Authentication auth
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(bookingService.createBulkBookings(request, auth));
+    }
+
+    @PostMapping("/holds")
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<SlotHoldResponse> holdSlot(
+            @RequestBody SlotHoldRequest request,
+            Authentication auth
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(bookingService.holdSlot(request, auth));
+    }
+
+    @DeleteMapping("/holds/{id}")
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<Void> releaseHold(
+            @PathVariable Long id,
+            Authentication auth
+    ) {
+        bookingService.releaseHold(id, auth);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/salon")
     @PreAuthorize("hasRole('SALON_ADMIN')")
     public ResponseEntity<List<BookingResponse>> getSalonBookings(
@@ -50,6 +90,17 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getAvailability(staffId, serviceId, date, auth));
     }
 
+    @GetMapping("/availability/service")
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<List<StaffAvailabilityResponse>> getServiceAvailability(
+            @RequestParam Long serviceId,
+            @RequestParam LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(bookingService.getServiceAvailability(serviceId, from, to, auth));
+    }
+
     @PatchMapping("/{bookingId}/cancel")
     @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
     public ResponseEntity<BookingResponse> cancelBooking(
@@ -113,8 +164,16 @@ public class BookingController {
             @RequestParam(required = false) BookingRange range,
             @RequestParam(required = false) LocalDate from,
             @RequestParam(required = false) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean seek,
+            @RequestParam(required = false) String cursor,
             Authentication auth
     ) {
+        // keyset mode: no offset, no total count, follow nextCursor
+        if (seek || cursor != null) {
+            return ResponseEntity.ok(
+                    bookingService.getBookingsByCursor(size, status, search, range, from, to, cursor, auth)
+            );
+        }
         return ResponseEntity.ok(
                 bookingService.getBookings(page, size, status, search, range, from, to, auth)
         );
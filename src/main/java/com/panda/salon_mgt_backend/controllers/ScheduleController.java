@@ -0,0 +1,71 @@
+package com.panda.salon_mgt_backend.controllers;
+
+import com.panda.salon_mgt_backend.payloads.SalonHolidayDto;
+import com.panda.salon_mgt_backend.payloads.SalonScheduleRequest;
+import com.panda.salon_mgt_backend.payloads.SalonScheduleResponse;
+import com.panda.salon_mgt_backend.payloads.StaffScheduleRequest;
+import com.panda.salon_mgt_backend.payloads.StaffScheduleResponse;
+import com.panda.salon_mgt_backend.services.ScheduleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/salons/schedule")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('SALON_ADMIN')")
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+
+    @GetMapping
+    public ResponseEntity<SalonScheduleResponse> getSalonSchedule(Authentication auth) {
+        return ResponseEntity.ok(scheduleService.getSalonSchedule(auth));
+    }
+
+    @PutMapping
+    public ResponseEntity<SalonScheduleResponse> updateSalonSchedule(
+            @RequestBody SalonScheduleRequest request,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(scheduleService.updateSalonSchedule(request, auth));
+    }
+
+    @PostMapping("/holidays")
+    public ResponseEntity<SalonScheduleResponse> addHoliday(
+            @RequestBody SalonHolidayDto request,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(scheduleService.addHoliday(request, auth));
+    }
+
+    @DeleteMapping("/holidays/{date}")
+    public ResponseEntity<SalonScheduleResponse> removeHoliday(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(scheduleService.removeHoliday(date, auth));
+    }
+
+    @GetMapping("/staff/{staffId}")
+    public ResponseEntity<StaffScheduleResponse> getStaffSchedule(
+            @PathVariable Long staffId,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(scheduleService.getStaffSchedule(staffId, auth));
+    }
+
+    @PutMapping("/staff/{staffId}")
+    public ResponseEntity<StaffScheduleResponse> updateStaffSchedule(
+            @PathVariable Long staffId,
+            @RequestBody StaffScheduleRequest request,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(scheduleService.updateStaffSchedule(staffId, request, auth));
+    }
+}
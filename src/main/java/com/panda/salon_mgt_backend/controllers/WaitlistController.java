@@ -0,0 +1,57 @@
+package com.panda.salon_mgt_backend.controllers;
+
+import com.panda.salon_mgt_backend.payloads.BookingResponse;
+import com.panda.salon_mgt_backend.payloads.WaitlistEntryResponse;
+import com.panda.salon_mgt_backend.payloads.WaitlistJoinRequest;
+import com.panda.salon_mgt_backend.services.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    @PostMapping
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<WaitlistEntryResponse> join(
+            @RequestBody WaitlistJoinRequest request,
+            Authentication auth
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(waitlistService.join(request, auth));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<List<WaitlistEntryResponse>> getEntries(Authentication auth) {
+        return ResponseEntity.ok(waitlistService.getEntries(auth));
+    }
+
+    @PostMapping("/{id}/accept")
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<BookingResponse> accept(
+            @PathVariable Long id,
+            Authentication auth
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(waitlistService.acceptOffer(id, auth));
+    }
+
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAnyRole('USER', 'SALON_ADMIN')")
+    public ResponseEntity<WaitlistEntryResponse> leave(
+            @PathVariable Long id,
+            Authentication auth
+    ) {
+        return ResponseEntity.ok(waitlistService.leave(id, auth));
+    }
+}
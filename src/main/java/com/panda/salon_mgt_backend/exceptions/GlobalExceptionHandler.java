@@ -3,6 +3,7 @@ package com.panda.salon_mgt_backend.exceptions;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -104,6 +105,14 @@ public class GlobalExceptionHandler {
         return build(status, safeMessage(ex), req);
     }
 
+    @ExceptionHandler(TooManyAttemptsException.class)
+    public ResponseEntity<ApiError> handleTooManyAttempts(TooManyAttemptsException ex, HttpServletRequest req) {
+        ResponseEntity<ApiError> response = build(HttpStatus.TOO_MANY_REQUESTS, ex, req);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(RefreshTokenException.class)
     public ResponseEntity<ApiError> handleRefresh(RefreshTokenException ex, HttpServletRequest req) {
         return build(HttpStatus.UNAUTHORIZED, ex, req);
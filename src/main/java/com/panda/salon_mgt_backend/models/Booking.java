@@ -13,15 +13,24 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_booking_staff_time", columnList = "staff_id,start_time,end_time"),
         @Index(name = "idx_booking_salon_date", columnList = "salon_id,start_time"),
-        @Index(name = "idx_booking_status", columnList = "status")
+        @Index(name = "idx_booking_status", columnList = "status"),
+        @Index(name = "idx_booking_status_end", columnList = "status,end_time")
     }
 )
 @Getter
 @Setter
 public class Booking {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // pooled sequence (not IDENTITY) so Hibernate can batch inserts; see BookingSequenceBootstrap
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_id_seq")
+    @SequenceGenerator(
+            name = "booking_id_seq",
+            sequenceName = "bookings_id_seq",
+            allocationSize = Booking.ID_ALLOCATION_SIZE
+    )
     private Long id;
 
     /* ---------- Ownership ---------- */
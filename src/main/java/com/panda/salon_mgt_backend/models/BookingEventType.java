@@ -0,0 +1,8 @@
+package com.panda.salon_mgt_backend.models;
+
+public enum BookingEventType {
+    CREATED,
+    CANCELLED,
+    COMPLETED,
+    NO_SHOW
+}
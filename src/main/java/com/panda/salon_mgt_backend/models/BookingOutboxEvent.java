@@ -0,0 +1,93 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Booking lifecycle event written in the same transaction as the booking change.
+ * <p>
+ * Pending while {@code publishedAt} is null; drained by {@code BookingOutboxDispatcher}.
+ * Events that keep failing stop being claimed once {@code attempts} reaches the configured limit.
+ */
+@Entity
+@Table(
+    name = "booking_outbox",
+    indexes = @Index(name = "idx_booking_outbox_pending", columnList = "published_at,id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookingOutboxEvent {
+
+    // pooled like Booking, so bulk bookings append their events in one batch
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_outbox_id_seq")
+    @SequenceGenerator(
+            name = "booking_outbox_id_seq",
+            sequenceName = "booking_outbox_id_seq",
+            allocationSize = Booking.ID_ALLOCATION_SIZE
+    )
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private BookingEventType eventType;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Column(name = "staff_id", nullable = false)
+    private Long staffId;
+
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    public static BookingOutboxEvent of(BookingEventType type, Booking booking) {
+        return of(
+                type,
+                booking.getId(),
+                booking.getSalon().getSalonId(),
+                booking.getStaff().getUserId(),
+                booking.getService().getServiceId(),
+                booking.getStartTime()
+        );
+    }
+
+    public static BookingOutboxEvent of(
+            BookingEventType type,
+            Long bookingId,
+            Long salonId,
+            Long staffId,
+            Long serviceId,
+            Instant startTime
+    ) {
+        BookingOutboxEvent event = new BookingOutboxEvent();
+        event.setEventType(type);
+        event.setBookingId(bookingId);
+        event.setSalonId(salonId);
+        event.setStaffId(staffId);
+        event.setServiceId(serviceId);
+        event.setStartTime(startTime);
+        event.setOccurredAt(Instant.now());
+        return event;
+    }
+}
@@ -0,0 +1,127 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Read model for booking lists.
+ * <p>
+ * One flat row per booking with the names and price captured when the booking was written,
+ * so list endpoints (filters, search, paging and counts) are served from this table alone.
+ * Maintained by {@code BookingViewProjector} inside the booking write transaction.
+ * <p>
+ * The id is the booking id, assigned rather than generated, so Spring Data cannot tell a new
+ * row from a detached one. Rows built by {@link #of} report themselves new and are persisted
+ * without the merge SELECT; loaded or saved rows are not.
+ */
+@Entity
+@Table(
+    name = "booking_view",
+    indexes = {
+        @Index(name = "idx_booking_view_salon_time", columnList = "salon_id,start_time"),
+        @Index(name = "idx_booking_view_staff_time", columnList = "staff_id,start_time"),
+        @Index(name = "idx_booking_view_customer_time", columnList = "customer_id,start_time")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class BookingView implements Persistable<Long> {
+
+    @Id
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @Column(name = "service_name", nullable = false)
+    private String serviceName;
+
+    @Column(name = "service_price", nullable = false)
+    private BigDecimal servicePrice;
+
+    @Column(name = "staff_id", nullable = false)
+    private Long staffId;
+
+    @Column(name = "staff_name", nullable = false)
+    private String staffName;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "customer_name", nullable = false)
+    private String customerName;
+
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BookingStatus status;
+
+    // lowercase "customer staff service", backed by a pg_trgm GIN index (BookingSearchBootstrap)
+    @Column(name = "search_text", length = 300)
+    private String searchText;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean fresh;
+
+    public static BookingView of(Booking booking) {
+        BookingView view = new BookingView();
+        view.setBookingId(booking.getId());
+        view.setSalonId(booking.getSalon().getSalonId());
+        view.setServiceId(booking.getService().getServiceId());
+        view.setServiceName(booking.getService().getServiceName());
+        view.setServicePrice(booking.getService().getServicePrice());
+        view.setStaffId(booking.getStaff().getUserId());
+        view.setStaffName(booking.getStaff().getUserName());
+        view.setCustomerId(booking.getCustomer().getUserId());
+        view.setCustomerName(booking.getCustomer().getUserName());
+        view.setStartTime(booking.getStartTime());
+        view.setEndTime(booking.getEndTime());
+        view.setStatus(booking.getStatus());
+        view.setSearchText(searchTextOf(view.getCustomerName(), view.getStaffName(), view.getServiceName()));
+        view.fresh = true;
+        return view;
+    }
+
+    public static String searchTextOf(String customerName, String staffName, String serviceName) {
+        return (Objects.toString(customerName, "") + " "
+                + Objects.toString(staffName, "") + " "
+                + Objects.toString(serviceName, "")).toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public Long getId() {
+        return bookingId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        fresh = false;
+    }
+}
@@ -0,0 +1,6 @@
+package com.panda.salon_mgt_backend.models;
+
+public enum LeaderboardSubject {
+    STAFF,
+    SERVICE
+}
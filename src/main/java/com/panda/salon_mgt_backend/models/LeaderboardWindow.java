@@ -0,0 +1,21 @@
+package com.panda.salon_mgt_backend.models;
+
+public enum LeaderboardWindow {
+    LAST_7_DAYS(7),
+    LAST_30_DAYS(30),
+    LAST_90_DAYS(90),
+    ALL_TIME(0);
+
+    private final int days;
+
+    LeaderboardWindow(int days) {
+        this.days = days;
+    }
+
+    /**
+     * Window length in days, or 0 for all time.
+     */
+    public int days() {
+        return days;
+    }
+}
@@ -13,7 +13,9 @@ import java.time.Instant;
 @Entity
 @Table(name = "refresh_tokens", indexes = {
         @Index(name = "idx_rt_jti", columnList = "jti", unique = true),
-        @Index(name = "idx_rt_user", columnList = "user_id")
+        @Index(name = "idx_rt_user", columnList = "user_id"),
+        @Index(name = "idx_rt_expires", columnList = "expires_at"),
+        @Index(name = "idx_rt_revoked_created", columnList = "revoked,created_at")
 })
 public class RefreshToken {
 
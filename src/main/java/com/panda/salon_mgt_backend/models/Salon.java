@@ -28,6 +28,11 @@ public class Salon {
     @Column(name = "salon_address", nullable = false)
     private String salonAddress;
 
+    // IANA zone id; null means booking.calendar.default-zone
+    @Size(max = 50)
+    @Column(name = "timezone", length = 50)
+    private String timezone;
+
     @OneToOne(optional = false)
     @JoinColumn(name = "owner_id", nullable = false, unique = true)
     private User owner;
@@ -0,0 +1,55 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Per salon-day booking rollup behind the analytics trends and the booking forecast.
+ * <p>
+ * Days are bucketed by booking start time in the salon's timezone. Rows are incremented by
+ * {@code SalonDailyStatsProjector} on the booking write path and regenerated from
+ * {@code booking_view} by {@code SalonDailyStatsRebuildJob}.
+ */
+@Entity
+@Table(
+    name = "salon_daily_stats",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_salon_daily_stats_salon_day",
+        columnNames = {"salon_id", "stat_date"}
+    )
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalonDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private long bookings;
+
+    @Column(nullable = false)
+    private long completed;
+
+    @Column(nullable = false)
+    private long cancelled;
+
+    @Column(name = "no_show", nullable = false)
+    private long noShow;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+}
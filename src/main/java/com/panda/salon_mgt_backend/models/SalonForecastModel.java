@@ -0,0 +1,57 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Fitted Holt-Winters state for one salon's daily booking counts, refreshed nightly.
+ * <p>
+ * Forecasts are {@code level + h * trend + seasonal[(h - 1) % 7]} for {@code h} days after
+ * {@link #fittedThrough}.
+ */
+@Entity
+@Table(name = "salon_forecast_models")
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalonForecastModel {
+
+    @Id
+    @Column(name = "salon_id")
+    private Long salonId;
+
+    @Column(name = "fitted_through", nullable = false)
+    private LocalDate fittedThrough;
+
+    @Column(nullable = false)
+    private double alpha;
+
+    @Column(nullable = false)
+    private double beta;
+
+    @Column(nullable = false)
+    private double gamma;
+
+    @Column(nullable = false)
+    private double level;
+
+    @Column(nullable = false)
+    private double trend;
+
+    @Column(nullable = false)
+    private double[] seasonal;
+
+    @Column(nullable = false)
+    private double rmse;
+
+    @Column(name = "fit_millis", nullable = false)
+    private double fitMillis;
+
+    @Column(name = "fitted_at", nullable = false)
+    private Instant fittedAt;
+}
@@ -0,0 +1,38 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * A salon-local date on which the salon is closed regardless of its weekly hours.
+ */
+@Entity
+@Table(
+    name = "salon_holidays",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_salon_holiday_date",
+        columnNames = {"salon_id", "holiday_date"}
+    )
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalonHoliday {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    @Column(length = 100)
+    private String label;
+}
@@ -0,0 +1,51 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Completed bookings per salon-day for one staff member or service.
+ * <p>
+ * Incremented on booking completion; the day is the booking's start date in the salon timezone,
+ * the same bucketing as {@link SalonDailyStats}. Loaded by {@code SalonLeaderboards}.
+ */
+@Entity
+@Table(
+    name = "salon_leaderboard_counts",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_salon_leaderboard_counts",
+        columnNames = {"salon_id", "stat_date", "subject", "subject_id"}
+    )
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalonLeaderboardCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LeaderboardSubject subject;
+
+    @Column(name = "subject_id", nullable = false)
+    private Long subjectId;
+
+    @Column(name = "subject_name", nullable = false)
+    private String subjectName;
+
+    @Column(nullable = false)
+    private long completed;
+}
@@ -0,0 +1,41 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * One opening interval of a salon's weekly template, in salon-local time.
+ * A day may have several rows (e.g. a lunch closure); a day without rows is closed.
+ */
+@Entity
+@Table(
+    name = "salon_opening_hours",
+    indexes = @Index(name = "idx_opening_hours_salon", columnList = "salon_id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class SalonOpeningHours {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "opens_at", nullable = false)
+    private LocalTime opensAt;
+
+    @Column(name = "closes_at", nullable = false)
+    private LocalTime closesAt;
+}
@@ -0,0 +1,57 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * A short-lived reservation of a staff interval while a customer confirms a booking.
+ * <p>
+ * Rows are the cross-node source of truth: booking writes lock overlapping holds under the
+ * staff lock, and {@code createBooking} consumes a hold by deleting its row.
+ */
+@Entity
+@Table(
+    name = "slot_holds",
+    indexes = {
+        @Index(name = "idx_slot_hold_staff_time", columnList = "staff_id,start_time"),
+        @Index(name = "idx_slot_hold_expiry", columnList = "expires_at"),
+        @Index(name = "idx_slot_hold_created", columnList = "created_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class SlotHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Column(name = "staff_id", nullable = false)
+    private Long staffId;
+
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @Column(name = "holder_id", nullable = false)
+    private Long holderId;
+
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
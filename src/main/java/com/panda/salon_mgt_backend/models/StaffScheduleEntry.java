@@ -0,0 +1,53 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * A weekly shift or break of one staff member, in salon-local time.
+ * <p>
+ * Staff without any {@code SHIFT} rows work the salon's opening hours; breaks are
+ * subtracted either way.
+ */
+@Entity
+@Table(
+    name = "staff_schedule",
+    indexes = {
+        @Index(name = "idx_staff_schedule_salon", columnList = "salon_id"),
+        @Index(name = "idx_staff_schedule_staff", columnList = "staff_id")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class StaffScheduleEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Column(name = "staff_id", nullable = false)
+    private Long staffId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StaffScheduleKind kind;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalTime endsAt;
+}
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -18,7 +19,7 @@ import java.util.Set;
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = "username"),
         @UniqueConstraint(columnNames = "email")
-})
+}, indexes = @Index(name = "idx_users_tokens_valid_after", columnList = "tokens_valid_after"))
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -55,6 +56,10 @@ public class User {
         this.enabled = enabled;
     }
 
+    // access tokens issued at or before this instant are rejected (see TokenRevocations)
+    @Column(name = "tokens_valid_after")
+    private Instant tokensValidAfter;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "user_role",
@@ -88,4 +93,12 @@ public class User {
                 .anyMatch(r -> r.getRoleName().name().equals(role));
     }
 
+    // salon the user owns, else the one they work at; reading a lazy proxy's id does not load it
+    public Long tenantSalonId() {
+        if (salon != null) {
+            return salon.getSalonId();
+        }
+        return staffSalon != null ? staffSalon.getSalonId() : null;
+    }
+
 }
@@ -0,0 +1,76 @@
+package com.panda.salon_mgt_backend.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * A customer's request for any slot with one staff member and service inside a time window.
+ * <p>
+ * When a cancellation frees a fitting slot the entry moves to {@code OFFERED} with a slot hold
+ * ({@code holdId}, covering {@code offeredStart}–{@code offeredEnd} until {@code offerExpiresAt});
+ * accepting the offer consumes the hold to create the booking.
+ */
+@Entity
+@Table(
+    name = "waitlist",
+    indexes = {
+        @Index(name = "idx_waitlist_staff_status_window", columnList = "staff_id,status,window_start"),
+        @Index(name = "idx_waitlist_status_expiry", columnList = "status,offer_expires_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "salon_id", nullable = false)
+    private Long salonId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "staff_id", nullable = false)
+    private Long staffId;
+
+    @Column(name = "service_id", nullable = false)
+    private Long serviceId;
+
+    @Column(name = "duration_minutes", nullable = false)
+    private int durationMinutes;
+
+    @Column(name = "window_start", nullable = false)
+    private Instant windowStart;
+
+    @Column(name = "window_end", nullable = false)
+    private Instant windowEnd;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WaitlistStatus status;
+
+    @Column(name = "offered_start")
+    private Instant offeredStart;
+
+    @Column(name = "offered_end")
+    private Instant offeredEnd;
+
+    @Column(name = "offer_expires_at")
+    private Instant offerExpiresAt;
+
+    @Column(name = "hold_id")
+    private Long holdId;
+
+    @Column(name = "booking_id")
+    private Long bookingId;
+}
@@ -0,0 +1,9 @@
+package com.panda.salon_mgt_backend.models;
+
+public enum WaitlistStatus {
+    WAITING,    // queued for a freed slot
+    OFFERED,    // slot offered, hold running
+    ACCEPTED,   // offer turned into a booking
+    EXPIRED,    // offer hold ran out
+    CANCELLED   // customer left the waitlist
+}
@@ -0,0 +1,11 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.time.Instant;
+import java.util.List;
+
+public record BulkBookingRequest(
+        Long serviceId,
+        Long staffId,
+        Long customerId,   // nullable for USER
+        List<Instant> startTimes
+) {}
@@ -6,6 +6,7 @@ public record CreateBookingRequest(
         Long serviceId,
         Long staffId,
         Long customerId,   // nullable for USER
-        Instant startTime
+        Instant startTime,
+        Long holdId        // optional slot hold to consume
 ) {}
 
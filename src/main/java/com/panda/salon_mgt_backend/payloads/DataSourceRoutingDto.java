@@ -0,0 +1,22 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.util.List;
+
+public record DataSourceRoutingDto(
+        boolean replicaConfigured,
+        boolean replicaUsable,
+        double replicaLagSeconds,
+        long readYourWritesFallbacks,
+        long lagFallbacks,
+        int readYourWritesPrincipals,
+        List<PoolStats> pools
+) {
+    public record PoolStats(
+            String pool,
+            long checkouts,
+            int active,
+            int idle,
+            int total,
+            int waiting
+    ) {}
+}
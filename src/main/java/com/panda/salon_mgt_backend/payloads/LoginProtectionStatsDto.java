@@ -0,0 +1,14 @@
+package com.panda.salon_mgt_backend.payloads;
+
+public record LoginProtectionStatsDto(
+        long hashes,
+        double averageHashMillis,
+        double maxHashMillis,
+        int hashThreadsActive,
+        int hashesQueued,
+        long hashRejections,
+        long ipThrottled,
+        long emailThrottled,
+        int trackedKeys
+) {
+}
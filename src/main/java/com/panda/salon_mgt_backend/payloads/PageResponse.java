@@ -1,11 +1,28 @@
 package com.panda.salon_mgt_backend.payloads;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+/**
+ * Offset pages carry totals; keyset (cursor) pages leave them null and
+ * expose {@code nextCursor} instead, which is null on the last page.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         List<T> content,
-        int page,
+        Integer page,
         int size,
-        long totalElements,
-        int totalPages
-) {}
+        Long totalElements,
+        Integer totalPages,
+        String nextCursor
+) {
+
+    public PageResponse(List<T> content, int page, int size, long totalElements, int totalPages) {
+        this(content, page, size, totalElements, totalPages, null);
+    }
+
+    public static <T> PageResponse<T> keyset(List<T> content, int size, String nextCursor) {
+        return new PageResponse<>(content, null, size, null, null, nextCursor);
+    }
+}
@@ -0,0 +1,12 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.time.Instant;
+
+public record RecurringBookingRequest(
+        Long serviceId,
+        Long staffId,
+        Long customerId,   // nullable for USER
+        Instant startTime,
+        Integer intervalDays, // defaults to 7 (weekly)
+        Integer occurrences
+) {}
@@ -0,0 +1,8 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.time.LocalDate;
+
+public record SalonHolidayDto(
+        LocalDate date,
+        String label
+) {}
@@ -0,0 +1,8 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.util.List;
+
+public record SalonScheduleRequest(
+        String timezone,
+        List<WeeklyTimeRange> openingHours
+) {}
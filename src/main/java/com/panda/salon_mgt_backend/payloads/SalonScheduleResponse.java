@@ -0,0 +1,9 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.util.List;
+
+public record SalonScheduleResponse(
+        String timezone,
+        List<WeeklyTimeRange> openingHours,
+        List<SalonHolidayDto> holidays
+) {}
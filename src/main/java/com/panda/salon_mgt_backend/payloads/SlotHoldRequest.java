@@ -0,0 +1,9 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.time.Instant;
+
+public record SlotHoldRequest(
+        Long serviceId,
+        Long staffId,
+        Instant startTime
+) {}
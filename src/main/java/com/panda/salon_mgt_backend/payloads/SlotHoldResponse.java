@@ -0,0 +1,25 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import com.panda.salon_mgt_backend.models.SlotHold;
+
+import java.time.Instant;
+
+public record SlotHoldResponse(
+        Long id,
+        Long serviceId,
+        Long staffId,
+        Instant startTime,
+        Instant endTime,
+        Instant expiresAt
+) {
+    public static SlotHoldResponse from(SlotHold hold) {
+        return new SlotHoldResponse(
+                hold.getId(),
+                hold.getServiceId(),
+                hold.getStaffId(),
+                hold.getStartTime(),
+                hold.getEndTime(),
+                hold.getExpiresAt()
+        );
+    }
+}
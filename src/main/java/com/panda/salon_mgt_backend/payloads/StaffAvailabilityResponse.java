@@ -0,0 +1,11 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record StaffAvailabilityResponse(
+        Long staffId,
+        String staffName,
+        LocalDate date,
+        List<TimeSlot> slots
+) {}
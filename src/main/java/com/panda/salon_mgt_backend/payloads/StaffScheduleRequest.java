@@ -0,0 +1,8 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.util.List;
+
+public record StaffScheduleRequest(
+        List<WeeklyTimeRange> shifts,   // empty = works the salon's opening hours
+        List<WeeklyTimeRange> breaks
+) {}
@@ -0,0 +1,9 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.util.List;
+
+public record StaffScheduleResponse(
+        Long staffId,
+        List<WeeklyTimeRange> shifts,
+        List<WeeklyTimeRange> breaks
+) {}
@@ -0,0 +1,11 @@
+package com.panda.salon_mgt_backend.payloads;
+
+public record TokenCacheStatsDto(
+        int size,
+        int maxEntries,
+        long hits,
+        long misses,
+        double hitRate,
+        long evictions
+) {
+}
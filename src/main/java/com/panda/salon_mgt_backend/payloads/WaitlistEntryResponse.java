@@ -0,0 +1,33 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import com.panda.salon_mgt_backend.models.WaitlistEntry;
+
+import java.time.Instant;
+
+public record WaitlistEntryResponse(
+        Long id,
+        Long serviceId,
+        Long staffId,
+        Long customerId,
+        Instant windowStart,
+        Instant windowEnd,
+        String status,
+        Instant offeredStart,
+        Instant offerExpiresAt,
+        Long bookingId
+) {
+    public static WaitlistEntryResponse from(WaitlistEntry entry) {
+        return new WaitlistEntryResponse(
+                entry.getId(),
+                entry.getServiceId(),
+                entry.getStaffId(),
+                entry.getCustomerId(),
+                entry.getWindowStart(),
+                entry.getWindowEnd(),
+                entry.getStatus().name(),
+                entry.getOfferedStart(),
+                entry.getOfferExpiresAt(),
+                entry.getBookingId()
+        );
+    }
+}
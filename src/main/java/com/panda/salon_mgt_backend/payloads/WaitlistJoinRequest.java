@@ -0,0 +1,11 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.time.Instant;
+
+public record WaitlistJoinRequest(
+        Long serviceId,
+        Long staffId,
+        Long customerId,   // nullable for USER
+        Instant windowStart,
+        Instant windowEnd
+) {}
@@ -0,0 +1,10 @@
+package com.panda.salon_mgt_backend.payloads;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record WeeklyTimeRange(
+        DayOfWeek day,
+        LocalTime start,
+        LocalTime end
+) {}
@@ -0,0 +1,68 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.BookingOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingOutboxRepository extends JpaRepository<BookingOutboxEvent, Long> {
+
+    /**
+     * Oldest pending events, row-locked for the caller's transaction.
+     * SKIP LOCKED lets dispatchers on several nodes drain the outbox without contending.
+     */
+    @Query(value = """
+                select *
+                from booking_outbox
+                where published_at is null
+                  and attempts < :maxAttempts
+                order by id
+                limit :limit
+                for update skip locked
+            """, nativeQuery = true)
+    List<BookingOutboxEvent> claimPending(
+            @Param("maxAttempts") int maxAttempts,
+            @Param("limit") int limit
+    );
+
+    @Query(value = """
+                select *
+                from booking_outbox
+                where id = :id
+                  and published_at is null
+                for update skip locked
+            """, nativeQuery = true)
+    Optional<BookingOutboxEvent> claimById(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+                update BookingOutboxEvent e
+                set e.publishedAt = :publishedAt
+                where e.id in :ids
+            """)
+    int markPublished(
+            @Param("ids") Collection<Long> ids,
+            @Param("publishedAt") Instant publishedAt
+    );
+
+    @Modifying
+    @Query("""
+                update BookingOutboxEvent e
+                set e.attempts = e.attempts + 1
+                where e.id = :id
+            """)
+    int recordFailure(@Param("id") Long id);
+
+    @Modifying
+    @Query("""
+                delete from BookingOutboxEvent e
+                where e.publishedAt < :before
+            """)
+    int purgePublished(@Param("before") Instant before);
+}
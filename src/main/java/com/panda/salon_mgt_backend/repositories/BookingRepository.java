@@ -3,15 +3,14 @@ package com.panda.salon_mgt_backend.repositories;
 import com.panda.salon_mgt_backend.models.Booking;
 import com.panda.salon_mgt_backend.models.BookingStatus;
 import com.panda.salon_mgt_backend.models.Salon;
-import com.panda.salon_mgt_backend.models.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.panda.salon_mgt_backend.services.booking.BookingInterval;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,16 +35,57 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     /* ---------- Conflict check ---------- */
 
     @Query("""
-                SELECT b FROM Booking b
-                WHERE b.staff.userId = :staffId
-                  AND b.status = 'CONFIRMED'
-                  AND b.startTime < :end
-                  AND b.endTime > :start
+                select count(b) > 0
+                from Booking b
+                where b.staff.userId = :staffId
+                  and b.status = com.panda.salon_mgt_backend.models.BookingStatus.CONFIRMED
+                  and b.startTime < :end
+                  and b.endTime > :start
             """)
-    List<Booking> findOverlappingBookings(
-            Long staffId,
-            Instant start,
-            Instant end
+    boolean existsOverlappingBooking(
+            @Param("staffId") Long staffId,
+            @Param("start") Instant start,
+            @Param("end") Instant end
+    );
+
+    @Query("""
+                select new com.panda.salon_mgt_backend.services.booking.BookingInterval(
+                    b.id,
+                    b.staff.userId,
+                    b.startTime,
+                    b.endTime
+                )
+                from Booking b
+                where b.staff.userId = :staffId
+                  and b.status = com.panda.salon_mgt_backend.models.BookingStatus.CONFIRMED
+                  and b.startTime >= :from
+                  and b.startTime < :to
+                order by b.startTime
+            """)
+    List<BookingInterval> findConfirmedIntervals(
+            @Param("staffId") Long staffId,
+            @Param("from") Instant from,
+            @Param("to") Instant to
+    );
+
+    @Query("""
+                select new com.panda.salon_mgt_backend.services.booking.BookingInterval(
+                    b.id,
+                    b.staff.userId,
+                    b.startTime,
+                    b.endTime
+                )
+                from Booking b
+                where b.staff.userId in :staffIds
+                  and b.status = com.panda.salon_mgt_backend.models.BookingStatus.CONFIRMED
+                  and b.startTime < :to
+                  and b.endTime > :from
+                order by b.staff.userId, b.startTime
+            """)
+    List<BookingInterval> findConfirmedIntervalsForStaff(
+            @Param("staffIds") Collection<Long> staffIds,
+            @Param("from") Instant from,
+            @Param("to") Instant to
     );
 
     /* ---------- Salon day view ---------- */
@@ -91,192 +131,6 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             LocalDateTime end
     );
 
-    @Query("""
-                select b from Booking b
-                join b.service s
-                join b.staff st
-                join b.customer c
-                where b.salon = :salon
-                  and (:status is null or b.status = :status)
-                  and (
-                        (:today = false and :upcoming = false and :past = false)
-                     or (:today = true and b.startTime between :startOfToday and :endOfToday)
-                     or (:upcoming = true and b.startTime > :now)
-                     or (:past = true and b.startTime < :now)
-                  )
-                  and (:hasFrom = false or b.startTime >= :fromInstant)
-                  and (:hasTo = false or b.startTime < :toInstant)
-            """)
-    Page<Booking> findAdminBookingsNoSearch(
-            @Param("salon") Salon salon,
-            @Param("status") BookingStatus status,
-            @Param("today") boolean today,
-            @Param("upcoming") boolean upcoming,
-            @Param("past") boolean past,
-            @Param("now") Instant now,
-            @Param("startOfToday") Instant startOfToday,
-            @Param("endOfToday") Instant endOfToday,
-            @Param("hasFrom") boolean hasFrom,
-            @Param("fromInstant") Instant fromInstant,
-            @Param("hasTo") boolean hasTo,
-            @Param("toInstant") Instant toInstant,
-            Pageable pageable
-    );
-
-    @Query("""
-                select b from Booking b
-                join b.service s
-                join b.staff st
-                join b.customer c
-                where b.salon = :salon
-                  and (:status is null or b.status = :status)
-                  and (
-                        (:today = false and :upcoming = false and :past = false)
-                     or (:today = true and b.startTime between :startOfToday and :endOfToday)
-                     or (:upcoming = true and b.startTime > :now)
-                     or (:past = true and b.startTime < :now)
-                  )
-                  and (
-                        lower(c.userName) like concat('%', lower(:search), '%')
-                     or lower(st.userName) like concat('%', lower(:search), '%')
-                     or lower(s.serviceName) like concat('%', lower(:search), '%')
-                  )
-                  and (:hasFrom = false or b.startTime >= :fromInstant)
-                  and (:hasTo = false or b.startTime < :toInstant)
-            """)
-    Page<Booking> findAdminBookingsWithSearch(
-            Salon salon,
-            BookingStatus status,
-            String search,
-            boolean today,
-            boolean upcoming,
-            boolean past,
-            Instant now,
-            Instant startOfToday,
-            Instant endOfToday,
-            @Param("hasFrom") boolean hasFrom,
-            @Param("fromInstant") Instant fromInstant,
-            @Param("hasTo") boolean hasTo,
-            @Param("toInstant") Instant toInstant,
-            Pageable pageable
-    );
-
-    @Query("""
-                select b from Booking b
-                join b.service s
-                join b.staff st
-                join b.customer c
-                where b.staff = :staff
-                  and (:status is null or b.status = :status)
-                  and (
-                        (:today = false and :upcoming = false and :past = false)
-                     or (:today = true and b.startTime between :startOfToday and :endOfToday)
-                     or (:upcoming = true and b.startTime > :now)
-                     or (:past = true and b.startTime < :now)
-                  )
-            """)
-    Page<Booking> findStaffBookingsNoSearch(
-            User staff,
-            BookingStatus status,
-            boolean today,
-            boolean upcoming,
-            boolean past,
-            Instant now,
-            Instant startOfToday,
-            Instant endOfToday,
-            Pageable pageable
-    );
-
-    @Query("""
-                select b from Booking b
-                join b.service s
-                join b.staff st
-                join b.customer c
-                where b.staff = :staff
-                  and (:status is null or b.status = :status)
-                  and (
-                        (:today = false and :upcoming = false and :past = false)
-                     or (:today = true and b.startTime between :startOfToday and :endOfToday)
-                     or (:upcoming = true and b.startTime > :now)
-                     or (:past = true and b.startTime < :now)
-                  )
-                  and (
-                        lower(c.userName) like concat('%', lower(:search), '%')
-                     or lower(st.userName) like concat('%', lower(:search), '%')
-                     or lower(s.serviceName) like concat('%', lower(:search), '%')
-                  )
-            """)
-    Page<Booking> findStaffBookingsWithSearch(
-            User staff,
-            BookingStatus status,
-            String search,
-            boolean today,
-            boolean upcoming,
-            boolean past,
-            Instant now,
-            Instant startOfToday,
-            Instant endOfToday,
-            Pageable pageable
-    );
-
-    @Query("""
-                select b from Booking b
-                join b.service s
-                join b.staff st
-                join b.customer c
-                where b.customer = :customer
-                  and (:status is null or b.status = :status)
-                  and (
-                        (:today = false and :upcoming = false and :past = false)
-                     or (:today = true and b.startTime between :startOfToday and :endOfToday)
-                     or (:upcoming = true and b.startTime > :now)
-                     or (:past = true and b.startTime < :now)
-                  )
-            """)
-    Page<Booking> findUserBookingsNoSearch(
-            User customer,
-            BookingStatus status,
-            boolean today,
-            boolean upcoming,
-            boolean past,
-            Instant now,
-            Instant startOfToday,
-            Instant endOfToday,
-            Pageable pageable
-    );
-
-    @Query("""
-                select b from Booking b
-                join b.service s
-                join b.staff st
-                join b.customer c
-                where b.customer = :customer
-                  and (:status is null or b.status = :status)
-                  and (
-                        (:today = false and :upcoming = false and :past = false)
-                     or (:today = true and b.startTime between :startOfToday and :endOfToday)
-                     or (:upcoming = true and b.startTime > :now)
-                     or (:past = true and b.startTime < :now)
-                  )
-                  and (
-                        lower(c.userName) like concat('%', lower(:search), '%')
-                     or lower(st.userName) like concat('%', lower(:search), '%')
-                     or lower(s.serviceName) like concat('%', lower(:search), '%')
-                  )
-            """)
-    Page<Booking> findUserBookingsWithSearch(
-            User customer,
-            BookingStatus status,
-            String search,
-            boolean today,
-            boolean upcoming,
-            boolean past,
-            Instant now,
-            Instant startOfToday,
-            Instant endOfToday,
-            Pageable pageable
-    );
-
     long countBySalon(Salon salon);
 
     long countBySalonAndStatus(Salon salon, BookingStatus status);
@@ -310,74 +164,4 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     List<Booking> findTop5BySalonOrderByStartTimeDesc(Salon salon);
 
-    @Query("""
-                SELECT FUNCTION('DATE', b.startTime), COUNT(b)
-                FROM Booking b
-                WHERE b.salon.salonId = :salonId
-                  AND b.startTime >= :from
-                  AND b.startTime < :to
-                GROUP BY FUNCTION('DATE', b.startTime)
-                ORDER BY FUNCTION('DATE', b.startTime)
-            """)
-    List<Object[]> bookingTrend(
-            Long salonId,
-            Instant from,
-            Instant to
-    );
-
-    @Query("""
-                SELECT FUNCTION('DATE', b.startTime), COALESCE(SUM(s.servicePrice), 0)
-                FROM Booking b
-                JOIN b.service s
-                WHERE b.salon.salonId = :salonId
-                  AND b.status = com.panda.salon_mgt_backend.models.BookingStatus.COMPLETED
-                  AND b.startTime >= :from
-                  AND b.startTime < :to
-                GROUP BY FUNCTION('DATE', b.startTime)
-                ORDER BY FUNCTION('DATE', b.startTime)
-            """)
-    List<Object[]> revenueTrend(
-            Long salonId,
-            Instant from,
-            Instant to
-    );
-
-    @Query("""
-                SELECT st.userName, COUNT(b)
-                FROM Booking b
-                JOIN b.staff st
-                WHERE b.salon.salonId = :salonId
-                  AND b.status = com.panda.salon_mgt_backend.models.BookingStatus.COMPLETED
-                GROUP BY st.userName
-                ORDER BY COUNT(b) DESC
-            """)
-    List<Object[]> topStaff(Long salonId);
-
-
-    @Query("""
-                SELECT s.serviceName, COUNT(b)
-                FROM Booking b
-                JOIN b.service s
-                WHERE b.salon.salonId = :salonId
-                  AND b.status = com.panda.salon_mgt_backend.models.BookingStatus.COMPLETED
-                GROUP BY s.serviceName
-                ORDER BY COUNT(b) DESC
-            """)
-    List<Object[]> topServices(Long salonId);
-
-    @Query("""
-                SELECT FUNCTION('DATE', b.startTime), COUNT(b)
-                FROM Booking b
-                WHERE b.salon.salonId = :salonId
-                  AND b.startTime >= :from
-                  AND b.startTime < :to
-                GROUP BY FUNCTION('DATE', b.startTime)
-                ORDER BY FUNCTION('DATE', b.startTime)
-            """)
-    List<Object[]> bookingsPerDay(
-            Long salonId,
-            Instant from,
-            Instant to
-    );
-
 }
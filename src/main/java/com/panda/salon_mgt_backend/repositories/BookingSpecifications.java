@@ -0,0 +1,90 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.BookingStatus;
+import com.panda.salon_mgt_backend.models.BookingView;
+import com.panda.salon_mgt_backend.services.booking.BookingCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Composable predicates for booking list queries over {@code booking_view}.
+ * Callers add only the filters that are actually present, so Postgres sees a plain
+ * {@code salon_id/staff_id/customer_id + start_time} predicate it can plan against the indexes.
+ */
+public final class BookingSpecifications {
+
+    private BookingSpecifications() {
+    }
+
+    /* ---------- Scope ---------- */
+
+    public static Specification<BookingView> inSalon(Long salonId) {
+        return (root, query, cb) -> cb.equal(root.get("salonId"), salonId);
+    }
+
+    public static Specification<BookingView> forStaff(Long staffId) {
+        return (root, query, cb) -> cb.equal(root.get("staffId"), staffId);
+    }
+
+    public static Specification<BookingView> forCustomer(Long customerId) {
+        return (root, query, cb) -> cb.equal(root.get("customerId"), customerId);
+    }
+
+    /* ---------- Filters ---------- */
+
+    public static Specification<BookingView> hasStatus(BookingStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<BookingView> startsBetween(Instant from, Instant to) {
+        return (root, query, cb) -> cb.between(root.get("startTime"), from, to);
+    }
+
+    public static Specification<BookingView> startsAfter(Instant instant) {
+        return (root, query, cb) -> cb.greaterThan(root.get("startTime"), instant);
+    }
+
+    public static Specification<BookingView> startsBefore(Instant instant) {
+        return (root, query, cb) -> cb.lessThan(root.get("startTime"), instant);
+    }
+
+    public static Specification<BookingView> startsAtOrAfter(Instant instant) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startTime"), instant);
+    }
+
+    /**
+     * Substring match on the denormalized {@code search_text} column.
+     * No joins, so Postgres can combine the salon index with the trigram GIN index.
+     */
+    public static Specification<BookingView> matchesSearch(String search) {
+        return (root, query, cb) -> cb.like(
+                root.get("searchText"),
+                "%" + escapeLike(search.toLowerCase(Locale.ROOT)) + "%",
+                '\\'
+        );
+    }
+
+    private static String escapeLike(String term) {
+        return term
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    /* ---------- Keyset ---------- */
+
+    /**
+     * Rows strictly after the cursor in (startTime DESC, bookingId DESC) order.
+     */
+    public static Specification<BookingView> after(BookingCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("startTime"), cursor.startTime()),
+                cb.and(
+                        cb.equal(root.get("startTime"), cursor.startTime()),
+                        cb.lessThan(root.get("bookingId"), cursor.id())
+                )
+        );
+    }
+}
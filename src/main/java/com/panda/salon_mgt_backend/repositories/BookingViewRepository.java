@@ -0,0 +1,110 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.BookingStatus;
+import com.panda.salon_mgt_backend.models.BookingView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface BookingViewRepository extends JpaRepository<BookingView, Long>, JpaSpecificationExecutor<BookingView> {
+
+    List<BookingView> findBySalonIdAndStartTimeGreaterThanEqualAndStartTimeLessThanOrderByStartTimeDesc(
+            Long salonId,
+            Instant from,
+            Instant to
+    );
+
+    List<BookingView> findByStaffIdAndStartTimeGreaterThanEqualAndStartTimeLessThanOrderByStartTimeAsc(
+            Long staffId,
+            Instant from,
+            Instant to
+    );
+
+    List<BookingView> findTop5BySalonIdOrderByStartTimeDesc(Long salonId);
+
+    @Modifying
+    @Query("""
+                update BookingView v
+                set v.status = :status
+                where v.bookingId = :bookingId
+            """)
+    int updateStatus(
+            @Param("bookingId") Long bookingId,
+            @Param("status") BookingStatus status
+    );
+
+    @Modifying
+    @Query("""
+                update BookingView v
+                set v.status = :status
+                where v.bookingId in :bookingIds
+            """)
+    int updateStatusForIds(
+            @Param("bookingIds") Collection<Long> bookingIds,
+            @Param("status") BookingStatus status
+    );
+
+    @Modifying
+    @Query("""
+                update BookingView v
+                set v.serviceName = :serviceName,
+                    v.searchText = lower(concat(v.customerName, ' ', v.staffName, ' ', :serviceName))
+                where v.serviceId = :serviceId
+            """)
+    int renameService(
+            @Param("serviceId") Long serviceId,
+            @Param("serviceName") String serviceName
+    );
+
+    /* ---------- Admin dashboard ---------- */
+
+    interface DashboardAggregate {
+        long getTotalBookings();
+        long getTodayBookings();
+        long getConfirmedBookings();
+        long getCompletedBookings();
+        long getCancelledBookings();
+        long getNoShowBookings();
+        BigDecimal getTotalRevenue();
+        long getActiveServices();
+        long getStaffCount();
+    }
+
+    /**
+     * Every dashboard counter in one pass over the salon's rows of {@code idx_booking_view_salon_time}.
+     * Revenue uses the price captured when each booking was made.
+     */
+    @Query(value = """
+                select count(*) as "totalBookings",
+                       count(*) filter (where v.start_time between :startOfToday and :endOfToday) as "todayBookings",
+                       count(*) filter (where v.status = 'CONFIRMED') as "confirmedBookings",
+                       count(*) filter (where v.status = 'COMPLETED') as "completedBookings",
+                       count(*) filter (where v.status = 'CANCELLED') as "cancelledBookings",
+                       count(*) filter (where v.status = 'NO_SHOW') as "noShowBookings",
+                       coalesce(sum(v.service_price) filter (where v.status = 'COMPLETED'), 0) as "totalRevenue",
+                       (select count(*)
+                        from services s
+                        where s.salon_id = :salonId
+                          and s.active) as "activeServices",
+                       (select count(*)
+                        from users u
+                        join user_role ur on ur.user_id = u.user_id
+                        join roles r on r.role_id = ur.role_id
+                        where u.staff_salon_id = :salonId
+                          and r.role_name = 'ROLE_STAFF') as "staffCount"
+                from booking_view v
+                where v.salon_id = :salonId
+            """, nativeQuery = true)
+    DashboardAggregate aggregateDashboard(
+            @Param("salonId") Long salonId,
+            @Param("startOfToday") Instant startOfToday,
+            @Param("endOfToday") Instant endOfToday
+    );
+}
@@ -1,10 +1,65 @@
 package com.panda.salon_mgt_backend.repositories;
 
 import com.panda.salon_mgt_backend.models.RefreshToken;
+import com.panda.salon_mgt_backend.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByJti(String jti);
+
+    /**
+     * Revokes a live token of {@code user} and links its successor in one statement.
+     * Returns 0 when the token is unknown, already revoked, expired or someone else's.
+     */
+    @Modifying
+    @Query("""
+                update RefreshToken t
+                set t.revoked = true, t.replacedByToken = :next
+                where t.jti = :jti
+                  and t.user = :user
+                  and t.revoked = false
+                  and t.expiresAt > :now
+            """)
+    int rotate(
+            @Param("jti") String jti,
+            @Param("next") String next,
+            @Param("user") User user,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.jti = :jti and t.revoked = false")
+    int revoke(@Param("jti") String jti);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.user = :user and t.revoked = false")
+    int revokeAllFor(@Param("user") User user);
+
+    /**
+     * Deletes up to {@code limit} expired tokens and tokens revoked (rotated or logged out) that
+     * were created before {@code revokedBefore}. SKIP LOCKED keeps purgers on several nodes apart.
+     */
+    @Modifying
+    @Query(value = """
+                delete from refresh_tokens
+                where id in (
+                    select id
+                    from refresh_tokens
+                    where expires_at < :now
+                       or (revoked and created_at < :revokedBefore)
+                    limit :limit
+                    for update skip locked
+                )
+            """, nativeQuery = true)
+    int purgeBatch(
+            @Param("now") Instant now,
+            @Param("revokedBefore") Instant revokedBefore,
+            @Param("limit") int limit
+    );
 }
@@ -0,0 +1,132 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.SalonDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalonDailyStatsRepository extends JpaRepository<SalonDailyStats, Long> {
+
+    List<SalonDailyStats> findBySalonIdAndStatDateBetweenOrderByStatDateAsc(
+            Long salonId,
+            LocalDate from,
+            LocalDate to
+    );
+
+    @Modifying
+    @Query(value = """
+                insert into salon_daily_stats (
+                    salon_id, stat_date, bookings, completed, cancelled, no_show, revenue
+                )
+                values (:salonId, :statDate, :bookings, :completed, :cancelled, :noShow, :revenue)
+                on conflict (salon_id, stat_date) do update set
+                    bookings  = salon_daily_stats.bookings  + excluded.bookings,
+                    completed = salon_daily_stats.completed + excluded.completed,
+                    cancelled = salon_daily_stats.cancelled + excluded.cancelled,
+                    no_show   = salon_daily_stats.no_show   + excluded.no_show,
+                    revenue   = salon_daily_stats.revenue   + excluded.revenue
+            """, nativeQuery = true)
+    int increment(
+            @Param("salonId") Long salonId,
+            @Param("statDate") LocalDate statDate,
+            @Param("bookings") long bookings,
+            @Param("completed") long completed,
+            @Param("cancelled") long cancelled,
+            @Param("noShow") long noShow,
+            @Param("revenue") BigDecimal revenue
+    );
+
+    /**
+     * Recomputes every day of one salon from {@code booking_view} in a single statement,
+     * dropping days that no longer have bookings.
+     * <p>
+     * {@code booking_view} already reflects events still pending in the outbox, which the
+     * projector will add again when they are dispatched. Their contribution is subtracted here,
+     * and the rows are locked so the dispatcher (SKIP LOCKED) cannot deliver them mid-rebuild.
+     * An event the dispatcher published first is no longer pending and stays counted once.
+     * Parked events ({@code attempts >= maxAttempts}) are never delivered, so they are not subtracted.
+     */
+    @Modifying
+    @Query(value = """
+                with pending as (
+                    select o.event_type,
+                           o.booking_id,
+                           cast(o.start_time at time zone :zone as date) as stat_date
+                    from booking_outbox o
+                    where o.salon_id = :salonId
+                      and o.published_at is null
+                      and o.attempts < :maxAttempts
+                    for update
+                ),
+                undelivered as (
+                    select p.stat_date,
+                           count(*) filter (where p.event_type = 'CREATED') as bookings,
+                           count(*) filter (where p.event_type = 'COMPLETED') as completed,
+                           count(*) filter (where p.event_type = 'CANCELLED') as cancelled,
+                           count(*) filter (where p.event_type = 'NO_SHOW') as no_show,
+                           coalesce(sum(v.service_price) filter (where p.event_type = 'COMPLETED'), 0) as revenue
+                    from pending p
+                    left join booking_view v on v.booking_id = p.booking_id
+                    group by 1
+                ),
+                viewed as (
+                    select v.salon_id,
+                           cast(v.start_time at time zone :zone as date) as stat_date,
+                           count(*) as bookings,
+                           count(*) filter (where v.status = 'COMPLETED') as completed,
+                           count(*) filter (where v.status = 'CANCELLED') as cancelled,
+                           count(*) filter (where v.status = 'NO_SHOW') as no_show,
+                           coalesce(sum(v.service_price) filter (where v.status = 'COMPLETED'), 0) as revenue
+                    from booking_view v
+                    where v.salon_id = :salonId
+                    group by 1, 2
+                ),
+                fresh as (
+                    select w.salon_id,
+                           w.stat_date,
+                           w.bookings  - coalesce(u.bookings, 0)  as bookings,
+                           w.completed - coalesce(u.completed, 0) as completed,
+                           w.cancelled - coalesce(u.cancelled, 0) as cancelled,
+                           w.no_show   - coalesce(u.no_show, 0)   as no_show,
+                           w.revenue   - coalesce(u.revenue, 0)   as revenue
+                    from viewed w
+                    left join undelivered u on u.stat_date = w.stat_date
+                ),
+                stale as (
+                    delete from salon_daily_stats d
+                    where d.salon_id = :salonId
+                      and not exists (select 1 from fresh f where f.stat_date = d.stat_date)
+                )
+                insert into salon_daily_stats (
+                    salon_id, stat_date, bookings, completed, cancelled, no_show, revenue
+                )
+                select salon_id, stat_date, bookings, completed, cancelled, no_show, revenue
+                from fresh
+                on conflict (salon_id, stat_date) do update set
+                    bookings  = excluded.bookings,
+                    completed = excluded.completed,
+                    cancelled = excluded.cancelled,
+                    no_show   = excluded.no_show,
+                    revenue   = excluded.revenue
+            """, nativeQuery = true)
+    int rebuildSalon(
+            @Param("salonId") Long salonId,
+            @Param("zone") String zone,
+            @Param("maxAttempts") int maxAttempts
+    );
+
+    @Query("""
+                select distinct s.salonId
+                from SalonDailyStats s
+                where s.statDate >= :since
+            """)
+    List<Long> findActiveSalonIds(@Param("since") LocalDate since);
+
+    @Query(value = "select distinct salon_id from booking_view", nativeQuery = true)
+    List<Long> findSalonIdsWithBookings();
+}
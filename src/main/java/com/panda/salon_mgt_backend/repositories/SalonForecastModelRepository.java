@@ -0,0 +1,19 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.SalonForecastModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface SalonForecastModelRepository extends JpaRepository<SalonForecastModel, Long> {
+
+    @Modifying
+    @Query("""
+                delete from SalonForecastModel m
+                where m.salonId not in :salonIds
+            """)
+    int deleteBySalonIdNotIn(@Param("salonIds") Collection<Long> salonIds);
+}
@@ -0,0 +1,31 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.SalonHoliday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalonHolidayRepository extends JpaRepository<SalonHoliday, Long> {
+
+    List<SalonHoliday> findBySalonIdAndHolidayDateGreaterThanEqualOrderByHolidayDateAsc(
+            Long salonId,
+            LocalDate from
+    );
+
+    boolean existsBySalonIdAndHolidayDate(Long salonId, LocalDate holidayDate);
+
+    @Modifying
+    @Query("""
+                delete from SalonHoliday h
+                where h.salonId = :salonId
+                  and h.holidayDate = :date
+            """)
+    int deleteBySalonIdAndHolidayDate(
+            @Param("salonId") Long salonId,
+            @Param("date") LocalDate date
+    );
+}
@@ -0,0 +1,57 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.SalonLeaderboardCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalonLeaderboardCountRepository extends JpaRepository<SalonLeaderboardCount, Long> {
+
+    List<SalonLeaderboardCount> findBySalonIdAndStatDateGreaterThanEqual(Long salonId, LocalDate from);
+
+    /**
+     * All-time totals per subject: {@code [subject, subjectId, subjectName, completed]}.
+     */
+    @Query("""
+                select c.subject, c.subjectId, max(c.subjectName), sum(c.completed)
+                from SalonLeaderboardCount c
+                where c.salonId = :salonId
+                group by c.subject, c.subjectId
+            """)
+    List<Object[]> totalsBySubject(@Param("salonId") Long salonId);
+
+    @Modifying
+    @Query(value = """
+                insert into salon_leaderboard_counts (
+                    salon_id, stat_date, subject, subject_id, subject_name, completed
+                )
+                values (:salonId, :statDate, :subject, :subjectId, :subjectName, :completed)
+                on conflict (salon_id, stat_date, subject, subject_id) do update set
+                    completed    = salon_leaderboard_counts.completed + excluded.completed,
+                    subject_name = excluded.subject_name
+            """, nativeQuery = true)
+    int incrementCompleted(
+            @Param("salonId") Long salonId,
+            @Param("statDate") LocalDate statDate,
+            @Param("subject") String subject,
+            @Param("subjectId") Long subjectId,
+            @Param("subjectName") String subjectName,
+            @Param("completed") long completed
+    );
+
+    @Modifying
+    @Query("""
+                update SalonLeaderboardCount c
+                set c.subjectName = :subjectName
+                where c.subject = com.panda.salon_mgt_backend.models.LeaderboardSubject.SERVICE
+                  and c.subjectId = :serviceId
+            """)
+    int renameService(
+            @Param("serviceId") Long serviceId,
+            @Param("subjectName") String subjectName
+    );
+}
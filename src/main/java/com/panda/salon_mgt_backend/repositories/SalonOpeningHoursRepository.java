@@ -0,0 +1,18 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.SalonOpeningHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SalonOpeningHoursRepository extends JpaRepository<SalonOpeningHours, Long> {
+
+    List<SalonOpeningHours> findBySalonId(Long salonId);
+
+    @Modifying
+    @Query("delete from SalonOpeningHours h where h.salonId = :salonId")
+    int deleteBySalonId(@Param("salonId") Long salonId);
+}
@@ -0,0 +1,60 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.SlotHold;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface SlotHoldRepository extends JpaRepository<SlotHold, Long> {
+
+    /**
+     * Row-locks every hold overlapping [start, end) for the staff member, expired or not.
+     * A hold being consumed concurrently is row-locked by its delete, so this waits for it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+                select h from SlotHold h
+                where h.staffId = :staffId
+                  and h.startTime < :end
+                  and h.endTime > :start
+            """)
+    List<SlotHold> lockOverlapping(
+            @Param("staffId") Long staffId,
+            @Param("start") Instant start,
+            @Param("end") Instant end
+    );
+
+    @Query("""
+                select count(h)
+                from SlotHold h
+                where h.holderId = :holderId
+                  and h.expiresAt > :now
+            """)
+    long countActiveByHolder(
+            @Param("holderId") Long holderId,
+            @Param("now") Instant now
+    );
+
+    List<SlotHold> findByCreatedAtAfterAndExpiresAtAfter(Instant createdAfter, Instant expiresAfter);
+
+    @Modifying
+    @Query("""
+                delete from SlotHold h
+                where h.id = :id
+                  and h.expiresAt > :now
+            """)
+    int deleteActive(
+            @Param("id") Long id,
+            @Param("now") Instant now
+    );
+
+    @Modifying
+    @Query("delete from SlotHold h where h.expiresAt < :before")
+    int purgeExpired(@Param("before") Instant before);
+}
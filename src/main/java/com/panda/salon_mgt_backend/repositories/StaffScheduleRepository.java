@@ -0,0 +1,20 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.StaffScheduleEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StaffScheduleRepository extends JpaRepository<StaffScheduleEntry, Long> {
+
+    List<StaffScheduleEntry> findBySalonId(Long salonId);
+
+    List<StaffScheduleEntry> findByStaffId(Long staffId);
+
+    @Modifying
+    @Query("delete from StaffScheduleEntry e where e.staffId = :staffId")
+    int deleteByStaffId(@Param("staffId") Long staffId);
+}
@@ -1,5 +1,6 @@
 package com.panda.salon_mgt_backend.repositories;
 
+import com.panda.salon_mgt_backend.models.Plan;
 import com.panda.salon_mgt_backend.models.Salon;
 import com.panda.salon_mgt_backend.models.Subscription;
 import com.panda.salon_mgt_backend.models.SubscriptionStatus;
@@ -67,6 +68,22 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
             List<SubscriptionStatus> statuses
     );
 
+    /**
+     * Plan of the salon's latest subscription in {@code statuses}, loaded with the row.
+     */
+    @Query("""
+            SELECT s.plan
+            FROM Subscription s
+            WHERE s.salon.salonId = :salonId
+            AND s.status IN :statuses
+            ORDER BY s.startDate DESC
+            LIMIT 1
+            """)
+    Optional<Plan> findCurrentPlan(
+            @Param("salonId") Long salonId,
+            @Param("statuses") List<SubscriptionStatus> statuses
+    );
+
     @Query("""
             SELECT COUNT(s)
             FROM Subscription s
@@ -2,10 +2,12 @@ package com.panda.salon_mgt_backend.repositories;
 
 import com.panda.salon_mgt_backend.models.Salon;
 import com.panda.salon_mgt_backend.models.User;
+import com.panda.salon_mgt_backend.security.services.TokenCutoff;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +46,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
             """)
     Optional<User> findByEmailWithRoles(@Param("email") String email);
 
+    @Query("""
+                select u
+                from User u
+                left join fetch u.roles
+                left join fetch u.salon
+                left join fetch u.staffSalon
+                where u.email = :email
+            """)
+    Optional<User> findByEmailWithTenant(@Param("email") String email);
+
     @Query("""
                 select u from User u
                 join fetch u.roles
@@ -74,4 +86,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
             """)
     List<User> findStaffBySalonWithRolesAndServices(@Param("salon") Salon salon);
 
+    @Query("""
+                select new com.panda.salon_mgt_backend.security.services.TokenCutoff(
+                    u.userId, u.tokensValidAfter
+                )
+                from User u
+                where u.tokensValidAfter > :since
+            """)
+    List<TokenCutoff> findTokenCutoffsAfter(@Param("since") Instant since);
+
 }
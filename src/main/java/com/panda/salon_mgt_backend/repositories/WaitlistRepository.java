@@ -0,0 +1,56 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.WaitlistEntry;
+import com.panda.salon_mgt_backend.models.WaitlistStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    List<WaitlistEntry> findByStaffIdAndStatusAndWindowStartGreaterThanEqualAndWindowStartLessThan(
+            Long staffId,
+            WaitlistStatus status,
+            Instant from,
+            Instant to
+    );
+
+    List<WaitlistEntry> findBySalonIdAndStatusInOrderByCreatedAtAsc(
+            Long salonId,
+            Collection<WaitlistStatus> statuses
+    );
+
+    List<WaitlistEntry> findByCustomerIdOrderByCreatedAtDesc(Long customerId);
+
+    List<WaitlistEntry> findTop100ByStatusAndOfferExpiresAtBeforeOrderByOfferExpiresAtAsc(
+            WaitlistStatus status,
+            Instant now
+    );
+
+    /**
+     * Moves a still-waiting entry to OFFERED; 0 when another node or request got there first.
+     */
+    @Modifying
+    @Query("""
+                update WaitlistEntry w
+                set w.status = com.panda.salon_mgt_backend.models.WaitlistStatus.OFFERED,
+                    w.offeredStart = :start,
+                    w.offeredEnd = :end,
+                    w.offerExpiresAt = :expiresAt,
+                    w.holdId = :holdId
+                where w.id = :id
+                  and w.status = com.panda.salon_mgt_backend.models.WaitlistStatus.WAITING
+            """)
+    int offer(
+            @Param("id") Long id,
+            @Param("start") Instant start,
+            @Param("end") Instant end,
+            @Param("expiresAt") Instant expiresAt,
+            @Param("holdId") Long holdId
+    );
+}
@@ -8,8 +8,10 @@ import com.panda.salon_mgt_backend.repositories.UserRepository;
 import com.panda.salon_mgt_backend.security.jwt.AuthEntryPointJwt;
 import com.panda.salon_mgt_backend.security.jwt.AuthTokenFilter;
 import com.panda.salon_mgt_backend.security.jwt.JwtAccessDeniedHandler;
+import com.panda.salon_mgt_backend.security.services.BoundedPasswordEncoder;
 import com.panda.salon_mgt_backend.security.services.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -75,15 +77,21 @@ public class SecurityConfig {
     }
 
     @Bean
-    public DaoAuthenticationProvider daoAuthenticationProvider() {
+    public DaoAuthenticationProvider daoAuthenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
+    // BCrypt on a bounded pool: hashing CPU is capped and overflow is rejected fast
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.login.hash-threads:0}") int threads,
+            @Value("${security.login.hash-queue:64}") int queueSize,
+            @Value("${security.login.hash-timeout-millis:5000}") long timeoutMillis
+    ) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueSize, timeoutMillis);
     }
 
     @Bean
@@ -0,0 +1,14 @@
+package com.panda.salon_mgt_backend.security.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+public record AccessTokenClaims(
+        Long userId,
+        String email,
+        List<String> roles,
+        Long salonId,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+}
@@ -1,6 +1,6 @@
 package com.panda.salon_mgt_backend.security.jwt;
 
-import com.panda.salon_mgt_backend.security.services.UserDetailsServiceImpl;
+import com.panda.salon_mgt_backend.security.services.TokenRevocations;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -10,7 +10,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,10 +20,10 @@ import java.io.IOException;
 public class AuthTokenFilter extends OncePerRequestFilter {
 
     @Autowired
-    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @Autowired
-    private UserDetailsServiceImpl userDetailsService;
+    private TokenRevocations tokenRevocations;
 
     @Override
     protected void doFilterInternal(
@@ -51,45 +50,34 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         String token = header.substring(7);
 
         try {
-            // ✅ Only process ACCESS tokens
-            if (!jwtService.isAccessToken(token)) {
-                filterChain.doFilter(request, response);
-                return;
-            }
-
-            String username = jwtService.extractUsername(token);
-
-            if (username != null &&
-                    SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                // 🔥 LOAD USERDETAILS (CRITICAL FIX)
-                UserDetails userDetails =
-                        userDetailsService.loadUserByUsername(username);
-
-                if (jwtService.isTokenValid(token, userDetails)) {
-
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,               // ✅ FIX
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
-
-                    authentication.setDetails(
-                            new WebAuthenticationDetailsSource()
-                                    .buildDetails(request)
-                    );
-
-                    SecurityContextHolder
-                            .getContext()
-                            .setAuthentication(authentication);
-                }
+            // ✅ Verified once per token lifetime; principal comes from claims, no DB lookup
+            VerifiedAccessToken verified = verifiedTokenCache.verify(token);
+
+            if (verified != null
+                    && SecurityContextHolder.getContext().getAuthentication() == null
+                    && !tokenRevocations.isRevoked(verified.claims().userId(), verified.claims().issuedAt())) {
+
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                verified.principal(),
+                                null,
+                                verified.principal().getAuthorities()
+                        );
+
+                authentication.setDetails(
+                        new WebAuthenticationDetailsSource()
+                                .buildDetails(request)
+                );
+
+                SecurityContextHolder
+                        .getContext()
+                        .setAuthentication(authentication);
             }
 
         } catch (ExpiredJwtException e) {
             // ✅ Expected: access token expired
             // Let request fail → frontend will refresh
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             // ❌ Invalid token → do nothing
             // DO NOT clear context here
         }
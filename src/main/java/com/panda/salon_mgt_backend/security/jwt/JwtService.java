@@ -6,13 +6,13 @@ import io.jsonwebtoken.security.Keys;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -26,6 +26,8 @@ public class JwtService {
     private final long accessTtlSeconds;
     private final long refreshTtlSeconds;
     private final String issuer;
+    // thread-safe once built; reused instead of rebuilding per parse
+    private final JwtParser parser;
 
     @Value("${security.jwt.secret}") String secret;
 
@@ -42,6 +44,9 @@ public class JwtService {
         this.accessTtlSeconds = accessTtlSeconds;
         this.refreshTtlSeconds = refreshTtlSeconds;
         this.issuer = issuer;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     public String generateAccessToken(User user) {
@@ -58,15 +63,23 @@ public class JwtService {
                 .issuer(issuer)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(now.plusSeconds(accessTtlSeconds)))
-                .claims(Map.of(
-                        "userId", user.getUserId(),
-                        "roles", roles,
-                        "typ", "access"
-                ))
+                .claims(accessClaims(user, roles))
                 .signWith(key)
                 .compact();
     }
 
+    private Map<String, Object> accessClaims(User user, List<String> roles) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getUserId());
+        claims.put("roles", roles);
+        claims.put("typ", "access");
+        Long salonId = user.tenantSalonId();
+        if (salonId != null) {
+            claims.put("salonId", salonId);
+        }
+        return claims;
+    }
+
     public String generateRefreshToken(User user, String jti) {
         Instant now = Instant.now();
         return Jwts.builder()
@@ -80,37 +93,37 @@ public class JwtService {
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        try {
-            Claims claims = parse(token).getPayload();
-            String usernameFromToken = claims.getSubject(); // email
-            Date expiration = claims.getExpiration();
-
-            return usernameFromToken.equals(userDetails.getUsername())
-                    && expiration.after(new Date());
-
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
-    }
-
     // parse the token
     public Jws<Claims> parse(String token) throws JwtException {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
+        return parser.parseSignedClaims(token);
     }
 
-    public boolean isAccessToken(String token) {
-        try {
-            Claims claims = parse(token).getPayload();
-            return "access".equals(claims.get("typ", String.class));
-        } catch (ExpiredJwtException e) {
-            // 🔥 Token is expired but we can still read its claims
-            Claims claims = e.getClaims();
-            return "access".equals(claims.get("typ", String.class));
+    /**
+     * Verifies the token once and reads the principal from its claims.
+     * Returns null for tokens that are not access tokens; throws {@link JwtException}
+     * ({@link ExpiredJwtException} included) for invalid ones.
+     */
+    public AccessTokenClaims parseAccessToken(String token) {
+        Claims claims = parse(token).getPayload();
+        if (!"access".equals(claims.get("typ", String.class))) {
+            return null;
+        }
+
+        Long userId = claims.get("userId", Long.class);
+        if (userId == null || claims.getSubject() == null || claims.getIssuedAt() == null
+                || claims.getExpiration() == null) {
+            throw new MalformedJwtException("Access token is missing required claims");
         }
+
+        List<?> roles = claims.get("roles", List.class);
+        return new AccessTokenClaims(
+                userId,
+                claims.getSubject(),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList(),
+                claims.get("salonId", Long.class),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant()
+        );
     }
 
     public boolean isRefreshToken(String token) {
@@ -123,12 +136,4 @@ public class JwtService {
         return c.getId();
     }
 
-    public String extractUsername(String token) {
-        try {
-            return parse(token).getPayload().getSubject();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims().getSubject();
-        }
-    }
-
 }
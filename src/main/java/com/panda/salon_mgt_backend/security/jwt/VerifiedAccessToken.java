@@ -0,0 +1,9 @@
+package com.panda.salon_mgt_backend.security.jwt;
+
+import com.panda.salon_mgt_backend.security.services.UserDetailsImpl;
+
+public record VerifiedAccessToken(
+        AccessTokenClaims claims,
+        UserDetailsImpl principal
+) {
+}
@@ -0,0 +1,179 @@
+package com.panda.salon_mgt_backend.security.jwt;
+
+import com.panda.salon_mgt_backend.payloads.TokenCacheStatsDto;
+import com.panda.salon_mgt_backend.security.services.UserDetailsImpl;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Verified access tokens, so a token the SPA replays for its whole lifetime is checked
+ * cryptographically once per node.
+ * <p>
+ * Keyed by the SHA-256 digest of the token (raw bearer tokens are never held). An entry lives
+ * until the token's {@code exp}; when the cache is full, expired entries are purged first and
+ * then the least recently used tenth is dropped. Revocation is still checked on every request
+ * by {@link com.panda.salon_mgt_backend.security.services.TokenRevocations}, which also evicts
+ * a user's entries when it records a cutoff (disable, role change, logout).
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtService jwtService;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(
+            JwtService jwtService,
+            @Value("${security.jwt.verified-cache.max-entries:10000}") int maxEntries
+    ) {
+        this.jwtService = jwtService;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Verified principal for an access token, or null for other token types.
+     * Throws {@link JwtException} for invalid or expired tokens, like {@link JwtService#parseAccessToken}.
+     */
+    public VerifiedAccessToken verify(String token) {
+        if (maxEntries <= 0) {
+            return load(token);
+        }
+
+        String key = digest(token);
+        Entry entry = entries.get(key);
+
+        if (entry != null) {
+            if (entry.token().claims().expiresAt().isAfter(Instant.now())) {
+                entry.touch();
+                hits.increment();
+                return entry.token();
+            }
+            entries.remove(key, entry);
+        }
+
+        misses.increment();
+        VerifiedAccessToken verified = load(token);
+        if (verified != null) {
+            if (entries.size() >= maxEntries) {
+                trim();
+            }
+            entries.put(key, new Entry(verified));
+        }
+        return verified;
+    }
+
+    public void evictUser(Long userId) {
+        entries.values().removeIf(e -> {
+            boolean match = userId.equals(e.token().claims().userId());
+            if (match) {
+                evictions.increment();
+            }
+            return match;
+        });
+    }
+
+    public TokenCacheStatsDto stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        return new TokenCacheStatsDto(
+                entries.size(),
+                maxEntries,
+                h,
+                m,
+                h + m == 0 ? 0.0 : (double) h / (h + m),
+                evictions.sum()
+        );
+    }
+
+    private VerifiedAccessToken load(String token) {
+        AccessTokenClaims claims = jwtService.parseAccessToken(token);
+        return claims == null ? null : new VerifiedAccessToken(claims, UserDetailsImpl.fromClaims(claims));
+    }
+
+    // one thread trims while others keep serving; the map may briefly overshoot
+    private void trim() {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            int before = entries.size();
+            entries.values().removeIf(e -> !e.token().claims().expiresAt().isAfter(now));
+
+            if (entries.size() >= maxEntries) {
+                // snapshot lastUsed so concurrent touches cannot reorder the sort
+                List<Candidate> byUse = new ArrayList<>(entries.size());
+                entries.forEach((key, e) -> byUse.add(new Candidate(key, e, e.lastUsed())));
+                byUse.sort(Comparator.comparingLong(Candidate::lastUsed));
+
+                int drop = Math.max(1, byUse.size() / 10);
+                for (int i = 0; i < drop; i++) {
+                    entries.remove(byUse.get(i).key(), byUse.get(i).entry());
+                }
+            }
+
+            int removed = Math.max(0, before - entries.size());
+            evictions.add(removed);
+            log.debug("auth.token_cache_trimmed removed={} size={}", removed, entries.size());
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private record Candidate(String key, Entry entry, long lastUsed) {
+    }
+
+    private static final class Entry {
+        private final VerifiedAccessToken token;
+        private volatile long lastUsed = System.nanoTime();
+
+        private Entry(VerifiedAccessToken token) {
+            this.token = token;
+        }
+
+        VerifiedAccessToken token() {
+            return token;
+        }
+
+        long lastUsed() {
+            return lastUsed;
+        }
+
+        void touch() {
+            lastUsed = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import com.panda.salon_mgt_backend.exceptions.TooManyAttemptsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs a slow password encoder (BCrypt) on a fixed pool with a bounded queue.
+ * <p>
+ * Hashing CPU is capped at the pool size whatever the request rate; once the queue is full new
+ * hashes are rejected immediately with {@link TooManyAttemptsException} instead of piling up on
+ * request threads and starving other traffic. The calling thread waits for its hash without
+ * burning CPU.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final LongAdder rejections = new LongAdder();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueSize, long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public long hashes() {
+        return hashes.sum();
+    }
+
+    public double averageHashMillis() {
+        long count = hashes.sum();
+        return count == 0 ? 0.0 : hashNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double maxHashMillis() {
+        return maxHashNanos.get() / 1_000_000.0;
+    }
+
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    public int activeThreads() {
+        return executor.getActiveCount();
+    }
+
+    public int queued() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> hash) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(hash));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            log.warn("auth.password_hash.rejected queued={}", executor.getQueue().size());
+            throw new TooManyAttemptsException("Server is busy, try again shortly", 1);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejections.increment();
+            throw new TooManyAttemptsException("Server is busy, try again shortly", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // latency covers the hash itself, not the queue wait
+    private <T> T timed(Callable<T> hash) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return hash.call();
+        } finally {
+            long took = System.nanoTime() - start;
+            hashes.increment();
+            hashNanos.add(took);
+            maxHashNanos.accumulateAndGet(took, Math::max);
+        }
+    }
+}
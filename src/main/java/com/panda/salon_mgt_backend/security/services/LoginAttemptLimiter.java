@@ -0,0 +1,108 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import com.panda.salon_mgt_backend.exceptions.TooManyAttemptsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sliding-window throttling for login and registration, checked before any password is hashed.
+ * <p>
+ * Failed logins and registrations count against the client IP, and failed logins also count
+ * against the email; a successful login clears the email. Successful logins never count, so many
+ * users behind one NAT or proxy address are not throttled together. Over either limit the attempt
+ * is rejected without touching BCrypt, so a credential-stuffing burst costs a map lookup per
+ * request rather than a hash.
+ * <p>
+ * The IP is {@code getRemoteAddr()}, which is the client only when
+ * {@code server.forward-headers-strategy} resolves it from a trusted proxy's
+ * {@code X-Forwarded-For}.
+ */
+@Slf4j
+@Component
+public class LoginAttemptLimiter {
+
+    private final SlidingWindowCounter failuresByIp;
+    private final SlidingWindowCounter failuresByEmail;
+    private final int maxFailuresPerIp;
+    private final int maxFailuresPerEmail;
+    private final long retryAfterSeconds;
+
+    private final LongAdder ipRejections = new LongAdder();
+    private final LongAdder emailRejections = new LongAdder();
+
+    public LoginAttemptLimiter(
+            @Value("${security.login.window-seconds:300}") long windowSeconds,
+            @Value("${security.login.max-failures-per-ip:30}") int maxFailuresPerIp,
+            @Value("${security.login.max-failures-per-email:5}") int maxFailuresPerEmail
+    ) {
+        this.failuresByIp = new SlidingWindowCounter(windowSeconds * 1000);
+        this.failuresByEmail = new SlidingWindowCounter(windowSeconds * 1000);
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.retryAfterSeconds = windowSeconds;
+    }
+
+    /**
+     * Rejects an attempt if the IP or {@code email} (may be null, e.g. for registration) is over
+     * its limit. Records nothing.
+     */
+    public void checkAllowed(String email, String ip) {
+        if (failuresByIp.count(ip) >= maxFailuresPerIp) {
+            ipRejections.increment();
+            log.warn("auth.login.throttled reason=ip ip={}", ip);
+            throw new TooManyAttemptsException("Too many attempts from this address, try again later", retryAfterSeconds);
+        }
+        if (email != null && failuresByEmail.count(normalize(email)) >= maxFailuresPerEmail) {
+            emailRejections.increment();
+            log.warn("auth.login.throttled reason=email ip={}", ip);
+            throw new TooManyAttemptsException("Too many failed sign-ins for this account, try again later", retryAfterSeconds);
+        }
+    }
+
+    public void onFailure(String email, String ip) {
+        failuresByIp.increment(ip);
+        if (email != null) {
+            failuresByEmail.increment(normalize(email));
+        }
+    }
+
+    /**
+     * Counts a registration against the IP like a failed login: each one costs a hash.
+     */
+    public void onRegistration(String ip) {
+        failuresByIp.increment(ip);
+    }
+
+    public void onSuccess(String email) {
+        if (email != null) {
+            failuresByEmail.reset(normalize(email));
+        }
+    }
+
+    public long ipRejections() {
+        return ipRejections.sum();
+    }
+
+    public long emailRejections() {
+        return emailRejections.sum();
+    }
+
+    public int trackedKeys() {
+        return failuresByIp.size() + failuresByEmail.size();
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void purgeIdle() {
+        failuresByIp.purgeIdle();
+        failuresByEmail.purgeIdle();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,35 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import com.panda.salon_mgt_backend.repositories.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes refresh tokens that can no longer be used: expired ones, and revoked (rotated or
+ * logged out) ones after {@code security.refresh-tokens.purge.revoked-retention-minutes}.
+ * A purged token presented again is simply "not recognized".
+ */
+@Component
+public class RefreshTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration revokedRetention;
+
+    public RefreshTokenPurger(
+            RefreshTokenRepository refreshTokenRepository,
+            @Value("${security.refresh-tokens.purge.revoked-retention-minutes:60}") long revokedRetentionMinutes
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedRetention = Duration.ofMinutes(revokedRetentionMinutes);
+    }
+
+    @Transactional
+    public int purgeBatch(int limit) {
+        Instant now = Instant.now();
+        return refreshTokenRepository.purgeBatch(now, now.minus(revokedRetention), limit);
+    }
+}
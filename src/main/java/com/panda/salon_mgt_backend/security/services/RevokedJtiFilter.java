@@ -0,0 +1,125 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Refresh-token JTIs revoked on this node, as time-bucketed Bloom filters.
+ * <p>
+ * Each bucket covers {@code bucket-minutes} and is dropped whole once every token it could
+ * describe has expired, so nothing is removed element by element. A miss is definite for
+ * revocations made on this node; a hit may be a false positive (about {@code fpp}) and callers
+ * confirm it against {@code refresh_tokens}. Revocations made on other nodes are not seen here,
+ * which only means the caller's conditional update does the rejecting.
+ */
+@Component
+public class RevokedJtiFilter {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int bits;
+    private final int hashes;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public RevokedJtiFilter(
+            @Value("${security.jwt.refresh-ttl-seconds}") long refreshTtlSeconds,
+            @Value("${security.refresh-tokens.revoked-filter.bucket-minutes:60}") long bucketMinutes,
+            @Value("${security.refresh-tokens.revoked-filter.expected-per-bucket:20000}") int expectedPerBucket,
+            @Value("${security.refresh-tokens.revoked-filter.fpp:0.01}") double fpp
+    ) {
+        this.bucketMillis = bucketMinutes * 60_000;
+        // a JTI revoked at the start of the oldest live bucket stays covered until its token expires
+        this.bucketCount = (int) Math.ceilDiv(refreshTtlSeconds * 1000, bucketMillis) + 1;
+
+        double ln2 = Math.log(2);
+        int m = (int) Math.ceil(-expectedPerBucket * Math.log(fpp) / (ln2 * ln2));
+        this.bits = Math.max(64, (m + 63) / 64 * 64);
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedPerBucket * ln2));
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public void add(String jti) {
+        Bucket bucket = current();
+        long h1 = hash(jti);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashes; i++) {
+            bucket.set(index(h1, h2, i));
+        }
+    }
+
+    public boolean mightContain(String jti) {
+        long epoch = System.currentTimeMillis() / bucketMillis;
+        long h1 = hash(jti);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int slot = 0; slot < bucketCount; slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket == null || epoch - bucket.epoch() >= bucketCount) {
+                continue;
+            }
+            boolean all = true;
+            for (int i = 0; i < hashes && all; i++) {
+                all = bucket.get(index(h1, h2, i));
+            }
+            if (all) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Bucket current() {
+        long epoch = System.currentTimeMillis() / bucketMillis;
+        int slot = (int) (epoch % bucketCount);
+
+        Bucket bucket = buckets.get(slot);
+        if (bucket != null && bucket.epoch() == epoch) {
+            return bucket;
+        }
+        // slot still holds a bucket from the previous revolution; replace it
+        Bucket fresh = new Bucket(epoch, new AtomicLongArray(bits / 64));
+        return buckets.compareAndSet(slot, bucket, fresh) ? fresh : buckets.get(slot);
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Math.floorMod(h1 + i * h2, (long) bits);
+    }
+
+    // FNV-1a over the chars, then a splitmix64 finalizer to spread the bits
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private record Bucket(long epoch, AtomicLongArray words) {
+
+        void set(int bit) {
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long prev;
+            do {
+                prev = words.get(word);
+                if ((prev & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(word, prev, prev | mask));
+        }
+
+        boolean get(int bit) {
+            return (words.get(bit >>> 6) & (1L << bit)) != 0;
+        }
+    }
+}
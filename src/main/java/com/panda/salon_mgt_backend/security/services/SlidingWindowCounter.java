@@ -0,0 +1,79 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-key event counts over a sliding window, approximated from the current and previous fixed
+ * windows (the previous count is weighted by how much of it still overlaps the sliding window).
+ * <p>
+ * Each key holds an immutable {@link Window} swapped by CAS, so counting never takes a lock.
+ */
+final class SlidingWindowCounter {
+
+    private record Window(long index, int previous, int current) {
+
+        Window rollTo(long now) {
+            if (now == index) {
+                return this;
+            }
+            return new Window(now, now == index + 1 ? current : 0, 0);
+        }
+    }
+
+    private final long windowMillis;
+    private final ConcurrentHashMap<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+
+    SlidingWindowCounter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Records one event and returns the sliding count including it.
+     */
+    double increment(String key) {
+        long now = System.currentTimeMillis();
+        long index = now / windowMillis;
+        AtomicReference<Window> ref = windows.computeIfAbsent(key, k -> new AtomicReference<>(new Window(index, 0, 0)));
+
+        Window prev;
+        Window next;
+        do {
+            prev = ref.get();
+            Window rolled = prev.rollTo(index);
+            next = new Window(index, rolled.previous(), rolled.current() + 1);
+        } while (!ref.compareAndSet(prev, next));
+
+        return estimate(next, now);
+    }
+
+    double count(String key) {
+        AtomicReference<Window> ref = windows.get(key);
+        if (ref == null) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        return estimate(ref.get().rollTo(now / windowMillis), now);
+    }
+
+    void reset(String key) {
+        windows.remove(key);
+    }
+
+    /**
+     * Drops keys with no events in the last two windows; their count is zero anyway.
+     */
+    void purgeIdle() {
+        long index = System.currentTimeMillis() / windowMillis;
+        windows.values().removeIf(ref -> ref.get().index() < index - 1);
+    }
+
+    int size() {
+        return windows.size();
+    }
+
+    private double estimate(Window w, long now) {
+        double overlap = 1.0 - (double) (now % windowMillis) / windowMillis;
+        return w.previous() * overlap + w.current();
+    }
+}
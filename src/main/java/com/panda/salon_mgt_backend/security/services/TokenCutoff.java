@@ -0,0 +1,9 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import java.time.Instant;
+
+public record TokenCutoff(
+        Long userId,
+        Instant validAfter
+) {
+}
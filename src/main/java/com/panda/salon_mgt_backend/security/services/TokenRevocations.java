@@ -0,0 +1,96 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import com.panda.salon_mgt_backend.models.User;
+import com.panda.salon_mgt_backend.repositories.UserRepository;
+import com.panda.salon_mgt_backend.security.jwt.VerifiedTokenCache;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-node set of access-token cutoffs, so token authentication never touches the database.
+ * <p>
+ * Revoking a user stamps {@code users.tokens_valid_after}; any access token issued at or before
+ * that second is rejected. Cutoffs written on other nodes are picked up by polling for recent
+ * stamps. Only cutoffs younger than the access-token TTL are kept, since older tokens have
+ * expired anyway.
+ * <p>
+ * JWT {@code iat} has one-second resolution, so a token issued in the same second as the cutoff
+ * is rejected too; the client simply refreshes once more. Staff deactivation, salon creation
+ * (role upgrade) and logout stamp cutoffs.
+ */
+@Slf4j
+@Component
+public class TokenRevocations {
+
+    // rows committed slightly after their cutoff was stamped are still picked up
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Duration accessTtl;
+    private final ConcurrentHashMap<Long, Instant> cutoffs = new ConcurrentHashMap<>();
+
+    private volatile Instant syncedUpTo = Instant.EPOCH;
+
+    public TokenRevocations(
+            UserRepository userRepository,
+            VerifiedTokenCache verifiedTokenCache,
+            @Value("${security.jwt.access-ttl-seconds}") long accessTtlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.accessTtl = Duration.ofSeconds(accessTtlSeconds);
+    }
+
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        Instant cutoff = cutoffs.get(userId);
+        return cutoff != null && !issuedAt.isAfter(cutoff);
+    }
+
+    /**
+     * Rejects every access token issued to {@code user} so far. The user must be managed by the
+     * caller's transaction; the local cutoff applies once it commits.
+     */
+    public void revokeIssuedTokens(User user) {
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        user.setTokensValidAfter(cutoff);
+
+        Long userId = user.getUserId();
+        TransactionCallbacks.afterCommit(() -> record(userId, cutoff));
+        log.info("auth.tokens_revoked userId={} cutoff={}", userId, cutoff);
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation-sync-millis:5000}")
+    public void sync() {
+        Instant now = Instant.now();
+        Instant horizon = now.minus(accessTtl);
+        Instant since = syncedUpTo.minus(SYNC_OVERLAP);
+        if (since.isBefore(horizon)) {
+            since = horizon;
+        }
+
+        for (TokenCutoff c : userRepository.findTokenCutoffsAfter(since)) {
+            record(c.userId(), c.validAfter());
+        }
+        cutoffs.values().removeIf(cutoff -> cutoff.isBefore(horizon));
+        syncedUpTo = now;
+    }
+
+    // a new cutoff also drops the user's verified tokens, so stale principals are not served
+    private void record(Long userId, Instant cutoff) {
+        Instant previous = cutoffs.get(userId);
+        if (previous != null && !cutoff.isAfter(previous)) {
+            return;
+        }
+        cutoffs.merge(userId, cutoff, (a, b) -> a.isAfter(b) ? a : b);
+        verifiedTokenCache.evictUser(userId);
+    }
+}
@@ -2,6 +2,7 @@ package com.panda.salon_mgt_backend.security.services;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.panda.salon_mgt_backend.models.User;
+import com.panda.salon_mgt_backend.security.jwt.AccessTokenClaims;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,6 +25,7 @@ public class UserDetailsImpl implements UserDetails {
     private String username;
     private String email;
     private boolean enabled;
+    private Long salonId;
 
     @JsonIgnore
     private String password;
@@ -39,11 +41,29 @@ public class UserDetailsImpl implements UserDetails {
                 user.getUserName(),
                 user.getEmail(),
                 true,
+                user.tenantSalonId(),
                 user.getPassword(),
                 authorities
         );
     }
 
+    // principal for a verified access token; disabled users are handled by TokenRevocations
+    public static UserDetailsImpl fromClaims(AccessTokenClaims claims) {
+        List<GrantedAuthority> authorities = claims.roles().stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+
+        return new UserDetailsImpl(
+                claims.userId(),
+                null,
+                claims.email(),
+                true,
+                claims.salonId(),
+                null,
+                authorities
+        );
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -11,10 +11,10 @@ import org.springframework.http.ResponseEntity;
 
 public interface AuthService {
     // register user method
-    ResponseEntity<MessageResponse> registerUser(UserRegisterRequest request);
+    ResponseEntity<MessageResponse> registerUser(UserRegisterRequest request, HttpServletRequest httpRequest);
 
     // login user method
-    TokenResponse loginUser(UserLoginRequest request, HttpServletResponse response);
+    TokenResponse loginUser(UserLoginRequest request, HttpServletRequest httpRequest, HttpServletResponse response);
 
     TokenResponse refreshTokenService(RefreshTokenRequest body, HttpServletResponse response, HttpServletRequest request);
 
@@ -2,6 +2,7 @@ package com.panda.salon_mgt_backend.services;
 
 import com.panda.salon_mgt_backend.models.Services;
 import com.panda.salon_mgt_backend.models.User;
+import com.panda.salon_mgt_backend.payloads.StaffAvailabilityResponse;
 import com.panda.salon_mgt_backend.payloads.TimeSlot;
 
 import java.time.LocalDate;
@@ -14,4 +15,14 @@ public interface AvailabilityService {
             Services service,
             LocalDate date
     );
+
+    /**
+     * {@code staff} must be ordered by user id.
+     */
+    List<StaffAvailabilityResponse> getAvailableSlots(
+            List<User> staff,
+            Services service,
+            LocalDate from,
+            LocalDate to
+    );
 }
@@ -13,6 +13,18 @@ public interface BookingService {
     @Transactional
     BookingResponse createBooking(CreateBookingRequest req, Authentication auth);
 
+    @Transactional
+    List<BookingResponse> createRecurringBookings(RecurringBookingRequest req, Authentication auth);
+
+    @Transactional
+    List<BookingResponse> createBulkBookings(BulkBookingRequest req, Authentication auth);
+
+    @Transactional
+    SlotHoldResponse holdSlot(SlotHoldRequest req, Authentication auth);
+
+    @Transactional
+    void releaseHold(Long holdId, Authentication auth);
+
     List<BookingResponse> getTodayBookings(Authentication auth);
 
     List<BookingResponse> getUpcomingTenantBookings(Authentication auth);
@@ -28,6 +40,9 @@ public interface BookingService {
 
     List<TimeSlot> getAvailability(Long staffId, Long serviceId, LocalDate date, Authentication auth);
 
+    List<StaffAvailabilityResponse> getServiceAvailability(Long serviceId, LocalDate from, LocalDate to,
+                                                           Authentication auth);
+
     List<BookingResponse> getStaffBookings(Long staffId, LocalDate date, Authentication auth);
 
     BookingResponse fetchOwnedBooking(Long bookingId, Authentication auth);
@@ -35,6 +50,10 @@ public interface BookingService {
     PageResponse<BookingResponse> getBookings(int page, int size, BookingStatus status, String search,
                                               BookingRange range, LocalDate from, LocalDate to, Authentication auth);
 
+    PageResponse<BookingResponse> getBookingsByCursor(int size, BookingStatus status, String search,
+                                                      BookingRange range, LocalDate from, LocalDate to,
+                                                      String cursor, Authentication auth);
+
     AdminDashboardResponse getAdminDashboard(Authentication auth);
 
 }
@@ -0,0 +1,25 @@
+package com.panda.salon_mgt_backend.services;
+
+import com.panda.salon_mgt_backend.payloads.SalonHolidayDto;
+import com.panda.salon_mgt_backend.payloads.SalonScheduleRequest;
+import com.panda.salon_mgt_backend.payloads.SalonScheduleResponse;
+import com.panda.salon_mgt_backend.payloads.StaffScheduleRequest;
+import com.panda.salon_mgt_backend.payloads.StaffScheduleResponse;
+import org.springframework.security.core.Authentication;
+
+import java.time.LocalDate;
+
+public interface ScheduleService {
+
+    SalonScheduleResponse getSalonSchedule(Authentication auth);
+
+    SalonScheduleResponse updateSalonSchedule(SalonScheduleRequest request, Authentication auth);
+
+    SalonScheduleResponse addHoliday(SalonHolidayDto request, Authentication auth);
+
+    SalonScheduleResponse removeHoliday(LocalDate date, Authentication auth);
+
+    StaffScheduleResponse getStaffSchedule(Long staffId, Authentication auth);
+
+    StaffScheduleResponse updateStaffSchedule(Long staffId, StaffScheduleRequest request, Authentication auth);
+}
@@ -0,0 +1,19 @@
+package com.panda.salon_mgt_backend.services;
+
+import com.panda.salon_mgt_backend.payloads.BookingResponse;
+import com.panda.salon_mgt_backend.payloads.WaitlistEntryResponse;
+import com.panda.salon_mgt_backend.payloads.WaitlistJoinRequest;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+public interface WaitlistService {
+
+    WaitlistEntryResponse join(WaitlistJoinRequest request, Authentication auth);
+
+    List<WaitlistEntryResponse> getEntries(Authentication auth);
+
+    BookingResponse acceptOffer(Long entryId, Authentication auth);
+
+    WaitlistEntryResponse leave(Long entryId, Authentication auth);
+}
@@ -1,5 +1,6 @@
 package com.panda.salon_mgt_backend.services.analytics;
 
+import com.panda.salon_mgt_backend.models.LeaderboardWindow;
 import com.panda.salon_mgt_backend.models.TrendRange;
 import com.panda.salon_mgt_backend.payloads.LeaderboardItemDTO;
 import org.springframework.security.core.Authentication;
@@ -22,7 +23,7 @@ public interface AnalyticsService {
             LocalDate to
     );
 
-    List<LeaderboardItemDTO> getTopStaff(Authentication auth);
+    List<LeaderboardItemDTO> getTopStaff(Authentication auth, LeaderboardWindow window);
 
-    List<LeaderboardItemDTO> getTopServices(Authentication auth);
+    List<LeaderboardItemDTO> getTopServices(Authentication auth, LeaderboardWindow window);
 }
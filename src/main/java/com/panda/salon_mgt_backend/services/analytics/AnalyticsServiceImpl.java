@@ -1,10 +1,14 @@
 package com.panda.salon_mgt_backend.services.analytics;
 
+import com.panda.salon_mgt_backend.models.LeaderboardSubject;
+import com.panda.salon_mgt_backend.models.LeaderboardWindow;
 import com.panda.salon_mgt_backend.models.Salon;
+import com.panda.salon_mgt_backend.models.SalonDailyStats;
 import com.panda.salon_mgt_backend.models.TrendRange;
 import com.panda.salon_mgt_backend.payloads.LeaderboardItemDTO;
-import com.panda.salon_mgt_backend.repositories.BookingRepository;
+import com.panda.salon_mgt_backend.repositories.SalonDailyStatsRepository;
 import com.panda.salon_mgt_backend.services.SalonService;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendars;
 import com.panda.salon_mgt_backend.utils.TenantContext;
 import com.panda.salon_mgt_backend.utils.subscription.PlanGuard;
 import lombok.RequiredArgsConstructor;
@@ -12,69 +16,33 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class AnalyticsServiceImpl implements AnalyticsService {
 
-    private final BookingRepository bookingRepository;
+    private final SalonLeaderboards salonLeaderboards;
+    private final SalonDailyStatsRepository salonDailyStatsRepository;
     private final SalonService salonService;
     private final TenantContext tenantContext;
     private final PlanGuard planGuard;
+    private final SalonCalendars salonCalendars;
 
-    @Transactional
+    @Transactional(readOnly = true)
     @Override
     public List<TrendPointDTO> getBookingTrend(Authentication auth, TrendRange range, LocalDate from, LocalDate to) {
         planGuard.requirePro(auth);
-        LocalDate today = LocalDate.now();
 
-        if (range != null && range != TrendRange.CUSTOM) {
-            switch (range) {
-                case LAST_7_DAYS -> {
-                    from = today.minusDays(6);
-                    to = today;
-                }
-                case LAST_30_DAYS -> {
-                    from = today.minusDays(29);
-                    to = today;
-                }
-                case LAST_90_DAYS -> {
-                    from = today.minusDays(89);
-                    to = today;
-                }
-            }
-        }
-
-        Salon salon = salonService.getMySalonEntity(auth);
-        ZoneId zone = ZoneId.systemDefault();
-
-        Instant fromInstant = from != null
-                ? from.atStartOfDay(zone).toInstant()
-                : Instant.EPOCH;
-
-        Instant toInstant = to != null
-                ? to.plusDays(1).atStartOfDay(zone).toInstant()
-                : Instant.now().plus(3650, ChronoUnit.DAYS);
-
-        List<Object[]> rows = bookingRepository.bookingTrend(
-                salon.getSalonId(),
-                fromInstant,
-                toInstant
-        );
-
-        return rows.stream()
-                .map(r -> new TrendPointDTO(
-                        ((java.sql.Date) r[0]).toLocalDate(),
-                        ((Number) r[1]).longValue()
-                ))
+        return dailyStats(auth, range, from, to)
+                .stream()
+                .filter(d -> d.getBookings() > 0)
+                .map(d -> new TrendPointDTO(d.getStatDate(), d.getBookings()))
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<TrendPointDTO> getRevenueTrend(
             Authentication auth,
@@ -83,7 +51,22 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             LocalDate to
     ) {
         planGuard.requirePro(auth);
-        LocalDate today = LocalDate.now();
+
+        return dailyStats(auth, range, from, to)
+                .stream()
+                .filter(d -> d.getCompleted() > 0)
+                .map(d -> new TrendPointDTO(d.getStatDate(), d.getRevenue().longValue()))
+                .toList();
+    }
+
+    private List<SalonDailyStats> dailyStats(
+            Authentication auth,
+            TrendRange range,
+            LocalDate from,
+            LocalDate to
+    ) {
+        Salon salon = salonService.getMySalonEntity(auth);
+        LocalDate today = LocalDate.now(salonCalendars.zone(salon.getSalonId()));
 
         if (range != null && range != TrendRange.CUSTOM) {
             switch (range) {
@@ -102,60 +85,30 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             }
         }
 
-        Salon salon = salonService.getMySalonEntity(auth);
-        ZoneId zone = ZoneId.systemDefault();
-
-        Instant fromInstant = from != null
-                ? from.atStartOfDay(zone).toInstant()
-                : Instant.EPOCH;
-
-        Instant toInstant = to != null
-                ? to.plusDays(1).atStartOfDay(zone).toInstant()
-                : Instant.now().plus(3650, ChronoUnit.DAYS);
-
-        List<Object[]> rows = bookingRepository.revenueTrend(
+        return salonDailyStatsRepository.findBySalonIdAndStatDateBetweenOrderByStatDateAsc(
                 salon.getSalonId(),
-                fromInstant,
-                toInstant
+                from != null ? from : LocalDate.EPOCH,
+                to != null ? to : today.plusYears(10)
         );
-
-        return rows.stream()
-                .map(r -> new TrendPointDTO(
-                        ((java.sql.Date) r[0]).toLocalDate(),
-                        ((Number) r[1]).longValue()
-                ))
-                .toList();
     }
 
     @Override
-    public List<LeaderboardItemDTO> getTopStaff(Authentication auth) {
+    public List<LeaderboardItemDTO> getTopStaff(Authentication auth, LeaderboardWindow window) {
         planGuard.requirePro(auth);
-//        Salon salon = salonService.getMySalonEntity(auth);
         Salon salon = tenantContext.getSalon(auth);
-        return bookingRepository.topStaff(salon.getSalonId())
-                .stream()
-                .limit(5)
-                .map(r -> new LeaderboardItemDTO(
-                        (String) r[0],
-                        ((Number) r[1]).longValue()
-                ))
-                .toList();
+
+        return salonLeaderboards.top(salon.getSalonId(), LeaderboardSubject.STAFF, windowOrDefault(window));
     }
 
     @Override
-    public List<LeaderboardItemDTO> getTopServices(Authentication auth) {
+    public List<LeaderboardItemDTO> getTopServices(Authentication auth, LeaderboardWindow window) {
         planGuard.requirePro(auth);
         Salon salon = tenantContext.getSalon(auth);
 
-        return bookingRepository.topServices(salon.getSalonId())
-                .stream()
-                .limit(5)
-                .map(r -> new LeaderboardItemDTO(
-                        (String) r[0],
-                        ((Number) r[1]).longValue()
-                ))
-                .toList();
+        return salonLeaderboards.top(salon.getSalonId(), LeaderboardSubject.SERVICE, windowOrDefault(window));
     }
 
-
+    private LeaderboardWindow windowOrDefault(LeaderboardWindow window) {
+        return window != null ? window : LeaderboardWindow.ALL_TIME;
+    }
 }
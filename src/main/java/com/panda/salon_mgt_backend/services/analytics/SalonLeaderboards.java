@@ -0,0 +1,242 @@
+package com.panda.salon_mgt_backend.services.analytics;
+
+import com.panda.salon_mgt_backend.models.BookingEventType;
+import com.panda.salon_mgt_backend.models.BookingView;
+import com.panda.salon_mgt_backend.models.LeaderboardSubject;
+import com.panda.salon_mgt_backend.models.LeaderboardWindow;
+import com.panda.salon_mgt_backend.models.SalonLeaderboardCount;
+import com.panda.salon_mgt_backend.payloads.LeaderboardItemDTO;
+import com.panda.salon_mgt_backend.repositories.BookingViewRepository;
+import com.panda.salon_mgt_backend.repositories.SalonLeaderboardCountRepository;
+import com.panda.salon_mgt_backend.services.booking.BookingEventSubscriber;
+import com.panda.salon_mgt_backend.services.booking.BookingLifecycleEvent;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendars;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-salon staff and service leaderboards (completed bookings) for all time and rolling windows.
+ * <p>
+ * Completions arrive as outbox events and are counted per salon-day in {@code salon_leaderboard_counts}. Each node keeps an
+ * in-memory board per salon with running totals for every window, built from at most 90 days of
+ * counters plus one all-time aggregate. The board is rebuilt when the day rolls over (windows
+ * slide) or after {@code analytics.leaderboard.reload-after-seconds}, which also picks up
+ * completions recorded on other nodes. Top-K lists are cached until the next completion.
+ */
+@Component
+public class SalonLeaderboards implements BookingEventSubscriber {
+
+    public static final int TOP_K = 5;
+
+    private static final int LONGEST_WINDOW_DAYS = LeaderboardWindow.LAST_90_DAYS.days();
+
+    private static final Comparator<Tally> RANKING =
+            Comparator.<Tally>comparingLong(Tally::count)
+                    .reversed()
+                    .thenComparing(Tally::name);
+
+    private final SalonLeaderboardCountRepository leaderboardCountRepository;
+    private final BookingViewRepository bookingViewRepository;
+    private final SalonCalendars salonCalendars;
+    private final Duration reloadAfter;
+    private final ConcurrentHashMap<Long, Board> boards = new ConcurrentHashMap<>();
+    // bumped by every committed completion or rename; a load that raced one is used once, not kept
+    private final AtomicLong writes = new AtomicLong();
+
+    public SalonLeaderboards(
+            SalonLeaderboardCountRepository leaderboardCountRepository,
+            BookingViewRepository bookingViewRepository,
+            SalonCalendars salonCalendars,
+            @Value("${analytics.leaderboard.reload-after-seconds:300}") long reloadAfterSeconds
+    ) {
+        this.leaderboardCountRepository = leaderboardCountRepository;
+        this.bookingViewRepository = bookingViewRepository;
+        this.salonCalendars = salonCalendars;
+        this.reloadAfter = Duration.ofSeconds(reloadAfterSeconds);
+    }
+
+    /* ---------- Reads ---------- */
+
+    public List<LeaderboardItemDTO> top(Long salonId, LeaderboardSubject subject, LeaderboardWindow window) {
+        LocalDate today = LocalDate.now(salonCalendars.zone(salonId));
+
+        Board board = boards.get(salonId);
+        if (board == null || !board.isFresh(today, reloadAfter)) {
+            long generation = writes.get();
+            board = load(salonId, today);
+            boards.put(salonId, board);
+            if (writes.get() != generation) {
+                boards.remove(salonId, board);
+            }
+        }
+        return board.top(subject, window);
+    }
+
+    /* ---------- Writes ---------- */
+
+    /**
+     * Counts completions from an outbox batch; the in-memory boards follow after commit.
+     */
+    @Override
+    public void onEvents(List<BookingLifecycleEvent> events) {
+        Map<Long, LocalDate> completedDays = new HashMap<>();
+        Map<Long, ZoneId> zones = new HashMap<>();
+        for (BookingLifecycleEvent event : events) {
+            if (event.type() == BookingEventType.COMPLETED) {
+                ZoneId zone = zones.computeIfAbsent(event.salonId(), salonCalendars::zone);
+                completedDays.put(event.bookingId(), LocalDate.ofInstant(event.startTime(), zone));
+            }
+        }
+        if (completedDays.isEmpty()) {
+            return;
+        }
+
+        // names as captured on the booking, one counter delta per salon-day-subject
+        Map<Entry, Long> deltas = new LinkedHashMap<>();
+        for (BookingView view : bookingViewRepository.findAllById(completedDays.keySet())) {
+            LocalDate day = completedDays.get(view.getBookingId());
+            deltas.merge(new Entry(view.getSalonId(), day, LeaderboardSubject.STAFF, view.getStaffId(), view.getStaffName()), 1L, Long::sum);
+            deltas.merge(new Entry(view.getSalonId(), day, LeaderboardSubject.SERVICE, view.getServiceId(), view.getServiceName()), 1L, Long::sum);
+        }
+
+        deltas.forEach((e, n) -> leaderboardCountRepository.incrementCompleted(
+                e.salonId(), e.day(), e.subject().name(), e.subjectId(), e.subjectName(), n
+        ));
+
+        TransactionCallbacks.afterCommit(() -> {
+            writes.incrementAndGet();
+            deltas.forEach((e, n) -> {
+                Board board = boards.get(e.salonId());
+                if (board != null) {
+                    board.add(e.subject(), e.subjectId(), e.subjectName(), e.day(), n);
+                }
+            });
+        });
+    }
+
+    public void onServiceRenamed(Long salonId, Long serviceId, String serviceName) {
+        leaderboardCountRepository.renameService(serviceId, serviceName);
+        TransactionCallbacks.afterCommit(() -> {
+            writes.incrementAndGet();
+            boards.remove(salonId);
+        });
+    }
+
+    /* ---------- Loading ---------- */
+
+    private Board load(Long salonId, LocalDate today) {
+        Board board = new Board(today, Instant.now());
+
+        for (SalonLeaderboardCount row : leaderboardCountRepository
+                .findBySalonIdAndStatDateGreaterThanEqual(salonId, today.minusDays(LONGEST_WINDOW_DAYS - 1))) {
+            board.addToWindows(row.getSubject(), row.getSubjectId(), row.getSubjectName(),
+                    row.getStatDate(), row.getCompleted());
+        }
+
+        for (Object[] r : leaderboardCountRepository.totalsBySubject(salonId)) {
+            board.addAllTime((LeaderboardSubject) r[0], (Long) r[1], (String) r[2], ((Number) r[3]).longValue());
+        }
+
+        return board;
+    }
+
+    /* ---------- Internal ---------- */
+
+    private static final class Board {
+
+        private final LocalDate day;
+        private final Instant loadedAt;
+        private final Map<LeaderboardSubject, Map<Long, long[]>> counts = new EnumMap<>(LeaderboardSubject.class);
+        private final Map<LeaderboardSubject, Map<Long, String>> names = new EnumMap<>(LeaderboardSubject.class);
+        private final Map<LeaderboardSubject, Map<LeaderboardWindow, List<LeaderboardItemDTO>>> topCache =
+                new EnumMap<>(LeaderboardSubject.class);
+
+        Board(LocalDate day, Instant loadedAt) {
+            this.day = day;
+            this.loadedAt = loadedAt;
+            for (LeaderboardSubject subject : LeaderboardSubject.values()) {
+                counts.put(subject, new HashMap<>());
+                names.put(subject, new HashMap<>());
+                topCache.put(subject, new EnumMap<>(LeaderboardWindow.class));
+            }
+        }
+
+        boolean isFresh(LocalDate today, Duration reloadAfter) {
+            return day.equals(today) && loadedAt.plus(reloadAfter).isAfter(Instant.now());
+        }
+
+        synchronized void add(LeaderboardSubject subject, Long id, String name, LocalDate statDate, long n) {
+            addToWindows(subject, id, name, statDate, n);
+            addAllTime(subject, id, name, n);
+        }
+
+        synchronized void addToWindows(LeaderboardSubject subject, Long id, String name, LocalDate statDate, long n) {
+            long[] c = tally(subject, id, name);
+            for (LeaderboardWindow window : LeaderboardWindow.values()) {
+                if (window.days() > 0 && !statDate.isBefore(day.minusDays(window.days() - 1))) {
+                    c[window.ordinal()] += n;
+                }
+            }
+            topCache.get(subject).clear();
+        }
+
+        synchronized void addAllTime(LeaderboardSubject subject, Long id, String name, long n) {
+            tally(subject, id, name)[LeaderboardWindow.ALL_TIME.ordinal()] += n;
+            topCache.get(subject).clear();
+        }
+
+        synchronized List<LeaderboardItemDTO> top(LeaderboardSubject subject, LeaderboardWindow window) {
+            return topCache.get(subject).computeIfAbsent(window, w -> rank(subject, w));
+        }
+
+        // bounded min-heap: O(n log K) over the salon's staff or services
+        private List<LeaderboardItemDTO> rank(LeaderboardSubject subject, LeaderboardWindow window) {
+            PriorityQueue<Tally> heap = new PriorityQueue<>(TOP_K + 1, RANKING.reversed());
+            Map<Long, String> subjectNames = names.get(subject);
+
+            counts.get(subject).forEach((id, c) -> {
+                long count = c[window.ordinal()];
+                if (count == 0) {
+                    return;
+                }
+                heap.add(new Tally(subjectNames.get(id), count));
+                if (heap.size() > TOP_K) {
+                    heap.poll();
+                }
+            });
+
+            List<Tally> ranked = new ArrayList<>(heap);
+            ranked.sort(RANKING);
+            return ranked.stream()
+                    .map(t -> new LeaderboardItemDTO(t.name(), t.count()))
+                    .toList();
+        }
+
+        private long[] tally(LeaderboardSubject subject, Long id, String name) {
+            names.get(subject).put(id, name);
+            return counts.get(subject).computeIfAbsent(id, k -> new long[LeaderboardWindow.values().length]);
+        }
+    }
+
+    private record Tally(String name, long count) {
+    }
+
+    private record Entry(Long salonId, LocalDate day, LeaderboardSubject subject, Long subjectId, String subjectName) {
+    }
+}
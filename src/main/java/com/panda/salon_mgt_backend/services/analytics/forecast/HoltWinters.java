@@ -0,0 +1,109 @@
+package com.panda.salon_mgt_backend.services.analytics.forecast;
+
+/**
+ * Additive Holt-Winters (triple exponential smoothing) with a weekly season over daily counts.
+ * <p>
+ * Smoothing parameters are chosen by grid search on the one-step-ahead squared error.
+ * Series shorter than two seasons fall back to a flat mean (no trend, no seasonality).
+ */
+public final class HoltWinters {
+
+    public static final int SEASON = 7;
+
+    private static final double[] ALPHAS = {0.05, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9};
+    private static final double[] BETAS = {0.0, 0.01, 0.05, 0.1, 0.2};
+    private static final double[] GAMMAS = {0.05, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9};
+
+    private HoltWinters() {
+    }
+
+    /**
+     * Fitted state after the last observation.
+     *
+     * @param seasonal seasonal offsets, where {@code seasonal[0]} applies to the day after the last observation
+     */
+    public record Model(
+            double alpha,
+            double beta,
+            double gamma,
+            double level,
+            double trend,
+            double[] seasonal,
+            double rmse
+    ) {
+
+        /**
+         * Forecast {@code h >= 1} days after the last observation, floored at zero.
+         */
+        public double forecast(int h) {
+            return Math.max(0, level + h * trend + seasonal[(h - 1) % SEASON]);
+        }
+    }
+
+    public static Model fit(double[] y) {
+        if (y.length < 2 * SEASON) {
+            return flat(y);
+        }
+
+        Model best = null;
+        for (double alpha : ALPHAS) {
+            for (double beta : BETAS) {
+                for (double gamma : GAMMAS) {
+                    Model candidate = run(y, alpha, beta, gamma);
+                    if (best == null || candidate.rmse() < best.rmse()) {
+                        best = candidate;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    static Model run(double[] y, double alpha, double beta, double gamma) {
+
+        // initial level/trend from the first two seasons, seasonal offsets from the first
+        double firstMean = mean(y, 0, SEASON);
+        double secondMean = mean(y, SEASON, 2 * SEASON);
+
+        double level = firstMean;
+        double trend = (secondMean - firstMean) / SEASON;
+        double[] seasonal = new double[SEASON];
+        for (int i = 0; i < SEASON; i++) {
+            seasonal[i] = y[i] - firstMean;
+        }
+
+        double sse = 0;
+        for (int t = SEASON; t < y.length; t++) {
+            int s = t % SEASON;
+            double predicted = level + trend + seasonal[s];
+            double error = y[t] - predicted;
+            sse += error * error;
+
+            double previousLevel = level;
+            level = alpha * (y[t] - seasonal[s]) + (1 - alpha) * (level + trend);
+            trend = beta * (level - previousLevel) + (1 - beta) * trend;
+            seasonal[s] = gamma * (y[t] - level) + (1 - gamma) * seasonal[s];
+        }
+
+        // rotate so index 0 is the season slot of the first forecast day
+        double[] ahead = new double[SEASON];
+        for (int h = 0; h < SEASON; h++) {
+            ahead[h] = seasonal[(y.length + h) % SEASON];
+        }
+
+        return new Model(alpha, beta, gamma, level, trend, ahead, Math.sqrt(sse / (y.length - SEASON)));
+    }
+
+    private static Model flat(double[] y) {
+        double level = y.length == 0 ? 0 : mean(y, 0, y.length);
+        return new Model(0, 0, 0, level, 0, new double[SEASON], 0);
+    }
+
+    private static double mean(double[] y, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += y[i];
+        }
+        return sum / (to - from);
+    }
+}
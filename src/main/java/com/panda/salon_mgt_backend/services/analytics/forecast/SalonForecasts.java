@@ -0,0 +1,201 @@
+package com.panda.salon_mgt_backend.services.analytics.forecast;
+
+import com.panda.salon_mgt_backend.models.SalonDailyStats;
+import com.panda.salon_mgt_backend.models.SalonForecastModel;
+import com.panda.salon_mgt_backend.payloads.ForecastPointDTO;
+import com.panda.salon_mgt_backend.repositories.SalonDailyStatsRepository;
+import com.panda.salon_mgt_backend.repositories.SalonForecastModelRepository;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendars;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Fits, stores and serves per-salon booking forecasts.
+ * <p>
+ * Models are fitted by {@code SalonForecastJob} from {@code salon_daily_stats}. Requests read a
+ * per-node cache of the next 7 days, recomputed from the stored model once per day. A salon
+ * without a stored model yet gets an empty forecast while a fit runs in the background, so the
+ * grid search never runs on a request thread.
+ */
+@Slf4j
+@Component
+public class SalonForecasts {
+
+    public static final int HORIZON = 7;
+
+    private final SalonDailyStatsRepository salonDailyStatsRepository;
+    private final SalonForecastModelRepository forecastModelRepository;
+    private final SalonCalendars salonCalendars;
+    private final int historyDays;
+    private final ConcurrentHashMap<Long, CachedForecast> cache = new ConcurrentHashMap<>();
+    private final Set<Long> fitting = ConcurrentHashMap.newKeySet();
+    private final ExecutorService fits = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "salon-forecast");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SalonForecasts(
+            SalonDailyStatsRepository salonDailyStatsRepository,
+            SalonForecastModelRepository forecastModelRepository,
+            SalonCalendars salonCalendars,
+            @Value("${analytics.forecast.history-days:182}") int historyDays
+    ) {
+        this.salonDailyStatsRepository = salonDailyStatsRepository;
+        this.forecastModelRepository = forecastModelRepository;
+        this.salonCalendars = salonCalendars;
+        this.historyDays = historyDays;
+    }
+
+    public List<ForecastPointDTO> nextWeek(Long salonId) {
+        LocalDate today = today(salonId);
+
+        CachedForecast cached = cache.get(salonId);
+        if (cached != null && cached.day().equals(today)) {
+            return cached.points();
+        }
+
+        Optional<SalonForecastModel> model = forecastModelRepository.findById(salonId);
+        if (model.isEmpty()) {
+            refitInBackground(salonId);
+            return List.of();
+        }
+
+        List<ForecastPointDTO> points = project(model.get(), today);
+        cache.put(salonId, new CachedForecast(today, points));
+        return points;
+    }
+
+    /**
+     * Fits and stores a model on every complete day up to yesterday.
+     */
+    public SalonForecastModel refit(Long salonId) {
+        LocalDate fittedThrough = today(salonId).minusDays(1);
+        double[] history = history(salonId, fittedThrough);
+
+        long started = System.nanoTime();
+        HoltWinters.Model fitted = HoltWinters.fit(history);
+        double fitMillis = (System.nanoTime() - started) / 1_000_000.0;
+
+        SalonForecastModel model = new SalonForecastModel();
+        model.setSalonId(salonId);
+        model.setFittedThrough(fittedThrough);
+        model.setAlpha(fitted.alpha());
+        model.setBeta(fitted.beta());
+        model.setGamma(fitted.gamma());
+        model.setLevel(fitted.level());
+        model.setTrend(fitted.trend());
+        model.setSeasonal(fitted.seasonal());
+        model.setRmse(fitted.rmse());
+        model.setFitMillis(fitMillis);
+        model.setFittedAt(Instant.now());
+
+        SalonForecastModel saved = forecastModelRepository.save(model);
+        cache.remove(salonId);
+        return saved;
+    }
+
+    /**
+     * Drops stored models of salons outside {@code activeSalonIds}; they are refitted on demand
+     * if the salon becomes active again.
+     */
+    @Transactional
+    public int retainOnly(Collection<Long> activeSalonIds) {
+        int dropped;
+        if (activeSalonIds.isEmpty()) {
+            dropped = (int) forecastModelRepository.count();
+            forecastModelRepository.deleteAllInBatch();
+        } else {
+            dropped = forecastModelRepository.deleteBySalonIdNotIn(activeSalonIds);
+        }
+        cache.keySet().retainAll(activeSalonIds);
+        return dropped;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        fits.shutdownNow();
+    }
+
+    // one queued fit per salon; repeated requests while it runs just see the empty forecast
+    private void refitInBackground(Long salonId) {
+        if (!fitting.add(salonId)) {
+            return;
+        }
+        try {
+            fits.execute(() -> {
+                try {
+                    refit(salonId);
+                } catch (RuntimeException ex) {
+                    log.warn("analytics.forecast.fit_failed salonId={}", salonId, ex);
+                } finally {
+                    fitting.remove(salonId);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            fitting.remove(salonId);
+        }
+    }
+
+    private List<ForecastPointDTO> project(SalonForecastModel stored, LocalDate today) {
+        HoltWinters.Model model = new HoltWinters.Model(
+                stored.getAlpha(),
+                stored.getBeta(),
+                stored.getGamma(),
+                stored.getLevel(),
+                stored.getTrend(),
+                stored.getSeasonal(),
+                stored.getRmse()
+        );
+
+        List<ForecastPointDTO> points = new ArrayList<>(HORIZON);
+        for (int i = 1; i <= HORIZON; i++) {
+            LocalDate date = today.plusDays(i);
+            int h = (int) ChronoUnit.DAYS.between(stored.getFittedThrough(), date);
+            points.add(new ForecastPointDTO(date, Math.round(model.forecast(h))));
+        }
+        return List.copyOf(points);
+    }
+
+    // dense daily series, starting at the salon's first day with bookings inside the window
+    private double[] history(Long salonId, LocalDate through) {
+        List<SalonDailyStats> days = salonDailyStatsRepository.findBySalonIdAndStatDateBetweenOrderByStatDateAsc(
+                salonId,
+                through.minusDays(historyDays - 1),
+                through
+        );
+        if (days.isEmpty()) {
+            return new double[0];
+        }
+
+        LocalDate first = days.getFirst().getStatDate();
+        double[] y = new double[(int) ChronoUnit.DAYS.between(first, through) + 1];
+        for (SalonDailyStats day : days) {
+            y[(int) ChronoUnit.DAYS.between(first, day.getStatDate())] = day.getBookings();
+        }
+        return y;
+    }
+
+    private LocalDate today(Long salonId) {
+        return LocalDate.now(salonCalendars.zone(salonId));
+    }
+
+    private record CachedForecast(LocalDate day, List<ForecastPointDTO> points) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.exceptions.CanNotException;
+import com.panda.salon_mgt_backend.models.BookingView;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Seek position for booking lists ordered by (startTime DESC, id DESC).
+ * Serialized as an opaque URL-safe token so clients never build it themselves.
+ */
+public record BookingCursor(
+        Instant startTime,
+        Long id
+) {
+
+    public static BookingCursor after(BookingView booking) {
+        return new BookingCursor(booking.getStartTime(), booking.getBookingId());
+    }
+
+    public String encode() {
+        String raw = startTime.getEpochSecond() + ":" + startTime.getNano() + ":" + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BookingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+
+            return new BookingCursor(
+                    Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1])),
+                    Long.parseLong(parts[2])
+            );
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException
+                 | DateTimeException | ArithmeticException e) {
+            // out-of-range seconds, or nanos that overflow them, surface as DateTime/ArithmeticException
+            throw new CanNotException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import java.util.List;
+
+/**
+ * In-process consumer of booking lifecycle events from the outbox.
+ * <p>
+ * Called on the dispatcher thread inside the transaction that marks the batch published, so
+ * database writes commit together with the acknowledgement. A throw rolls the batch back and it
+ * is redelivered: delivery is at-least-once, and in-memory effects should be registered with
+ * {@code TransactionCallbacks.afterCommit}.
+ */
+public interface BookingEventSubscriber {
+
+    void onEvents(List<BookingLifecycleEvent> events);
+}
@@ -0,0 +1,19 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import java.time.Instant;
+
+/**
+ * Lightweight projection of a CONFIRMED booking's time range.
+ * Used by the in-memory indexes so conflict checks never hydrate {@code Booking} entities.
+ */
+public record BookingInterval(
+        Long bookingId,
+        Long staffId,
+        Instant start,
+        Instant end
+) {
+
+    public boolean overlaps(Instant from, Instant to) {
+        return start.isBefore(to) && end.isAfter(from);
+    }
+}
@@ -0,0 +1,30 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.BookingEventType;
+import com.panda.salon_mgt_backend.models.BookingOutboxEvent;
+
+import java.time.Instant;
+
+public record BookingLifecycleEvent(
+        Long eventId,
+        BookingEventType type,
+        Long bookingId,
+        Long salonId,
+        Long staffId,
+        Long serviceId,
+        Instant startTime,
+        Instant occurredAt
+) {
+    public static BookingLifecycleEvent of(BookingOutboxEvent row) {
+        return new BookingLifecycleEvent(
+                row.getId(),
+                row.getEventType(),
+                row.getBookingId(),
+                row.getSalonId(),
+                row.getStaffId(),
+                row.getServiceId(),
+                row.getStartTime(),
+                row.getOccurredAt()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.Booking;
+import com.panda.salon_mgt_backend.models.BookingEventType;
+import com.panda.salon_mgt_backend.models.BookingOutboxEvent;
+import com.panda.salon_mgt_backend.repositories.BookingOutboxRepository;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Appends booking lifecycle events to {@code booking_outbox} in the caller's transaction.
+ * Derived work (rollups, leaderboards) happens in subscribers off the request thread.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingOutbox {
+
+    private final BookingOutboxRepository outboxRepository;
+    private final BookingOutboxDispatcher dispatcher;
+
+    public void append(BookingEventType type, Booking booking) {
+        outboxRepository.save(BookingOutboxEvent.of(type, booking));
+        TransactionCallbacks.afterCommit(dispatcher::wake);
+    }
+
+    public void append(BookingEventType type, Collection<Booking> bookings) {
+        appendAll(bookings.stream()
+                .map(b -> BookingOutboxEvent.of(type, b))
+                .toList());
+    }
+
+    public void appendAll(List<BookingOutboxEvent> events) {
+        outboxRepository.saveAll(events);
+        TransactionCallbacks.afterCommit(dispatcher::wake);
+    }
+}
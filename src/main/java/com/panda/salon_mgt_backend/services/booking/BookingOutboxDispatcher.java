@@ -0,0 +1,175 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.BookingOutboxEvent;
+import com.panda.salon_mgt_backend.repositories.BookingOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Drains {@code booking_outbox} to every {@link BookingEventSubscriber} in batches.
+ * <p>
+ * Committed writes wake the dispatcher through {@link #wake()}; a fixed-delay poll covers events
+ * written on other nodes and wake-ups that arrive mid-drain. A batch is claimed, delivered and
+ * marked published in one transaction. If it fails, its events are retried one by one so a single
+ * bad event cannot hold back the rest; each failure counts an attempt, and events reaching
+ * {@code booking.outbox.max-attempts} are parked (left unpublished and no longer claimed).
+ */
+@Slf4j
+@Component
+public class BookingOutboxDispatcher {
+
+    private final BookingOutboxRepository outboxRepository;
+    private final List<BookingEventSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final ReentrantLock draining = new ReentrantLock();
+    private final AtomicBoolean wakeQueued = new AtomicBoolean();
+    private final ExecutorService wakeups = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "booking-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookingOutboxDispatcher(
+            BookingOutboxRepository outboxRepository,
+            List<BookingEventSubscriber> subscribers,
+            PlatformTransactionManager transactionManager,
+            @Value("${booking.outbox.batch-size:200}") int batchSize,
+            @Value("${booking.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${booking.outbox.retention-days:7}") long retentionDays
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.subscribers = subscribers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    /**
+     * Schedules a drain on the dispatcher thread; concurrent wake-ups coalesce into one.
+     */
+    public void wake() {
+        if (wakeQueued.compareAndSet(false, true)) {
+            wakeups.execute(() -> {
+                wakeQueued.set(false);
+                drain();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.poll-millis:1000}")
+    public void poll() {
+        drain();
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    public void purgePublished() {
+        Integer purged = transactionTemplate.execute(status ->
+                outboxRepository.purgePublished(Instant.now().minus(retention))
+        );
+        log.info("booking.outbox.purged rows={}", purged);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        wakeups.shutdownNow();
+    }
+
+    private void drain() {
+        if (!draining.tryLock()) {
+            return;
+        }
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchBatch();
+            } while (dispatched == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("booking.outbox.drain_failed", ex);
+        } finally {
+            draining.unlock();
+        }
+    }
+
+    private int dispatchBatch() {
+        List<Long> claimedIds;
+        try {
+            claimedIds = transactionTemplate.execute(status -> {
+                List<BookingOutboxEvent> batch = outboxRepository.claimPending(maxAttempts, batchSize);
+                if (batch.isEmpty()) {
+                    return List.of();
+                }
+
+                List<Long> ids = batch.stream().map(BookingOutboxEvent::getId).toList();
+                deliver(batch);
+                outboxRepository.markPublished(ids, Instant.now());
+                return ids;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("booking.outbox.batch_failed retrying=individually", ex);
+            redeliverIndividually();
+            return 0;
+        }
+        return claimedIds.size();
+    }
+
+    private void redeliverIndividually() {
+        List<Long> ids = transactionTemplate.execute(status ->
+                outboxRepository.claimPending(maxAttempts, batchSize)
+                        .stream()
+                        .map(BookingOutboxEvent::getId)
+                        .toList()
+        );
+
+        for (Long id : ids) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxRepository.claimById(id).ifPresent(event -> {
+                            deliver(List.of(event));
+                            outboxRepository.markPublished(List.of(id), Instant.now());
+                        })
+                );
+            } catch (RuntimeException ex) {
+                recordFailure(id, ex);
+            }
+        }
+    }
+
+    private void recordFailure(Long id, RuntimeException ex) {
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.recordFailure(id));
+
+        int attempts = outboxRepository.findById(id).map(BookingOutboxEvent::getAttempts).orElse(0);
+        if (attempts >= maxAttempts) {
+            log.error("booking.outbox.parked eventId={} attempts={}", id, attempts, ex);
+        } else {
+            log.warn("booking.outbox.event_failed eventId={} attempts={}", id, attempts, ex);
+        }
+    }
+
+    private void deliver(List<BookingOutboxEvent> batch) {
+        List<BookingLifecycleEvent> events = batch.stream()
+                .map(BookingLifecycleEvent::of)
+                .toList();
+
+        for (BookingEventSubscriber subscriber : subscribers) {
+            subscriber.onEvents(events);
+        }
+    }
+}
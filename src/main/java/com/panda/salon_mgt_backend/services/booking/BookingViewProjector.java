@@ -0,0 +1,64 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.Booking;
+import com.panda.salon_mgt_backend.models.BookingView;
+import com.panda.salon_mgt_backend.payloads.BookingResponse;
+import com.panda.salon_mgt_backend.repositories.BookingViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps {@code booking_view} in step with the booking write path.
+ * Every method runs in the caller's transaction, so the view commits or rolls back with the booking.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingViewProjector {
+
+    private final BookingViewRepository bookingViewRepository;
+
+    public void onCreated(Booking booking) {
+        bookingViewRepository.save(BookingView.of(booking));
+    }
+
+    public void onCreated(Collection<Booking> bookings) {
+        bookingViewRepository.saveAll(bookings.stream().map(BookingView::of).toList());
+    }
+
+    public void onStatusChanged(Booking booking) {
+        int updated = bookingViewRepository.updateStatus(booking.getId(), booking.getStatus());
+
+        // row predates the read model and the backfill has not reached it yet
+        if (updated == 0) {
+            bookingViewRepository.save(BookingView.of(booking));
+        }
+    }
+
+    public void onServiceRenamed(Long serviceId, String serviceName) {
+        bookingViewRepository.renameService(serviceId, serviceName);
+    }
+
+    public static BookingResponse toResponse(BookingView view) {
+        return new BookingResponse(
+                view.getBookingId(),
+                view.getServiceId(),
+                view.getServiceName(),
+                view.getStaffId(),
+                view.getStaffName(),
+                view.getCustomerId(),
+                view.getCustomerName(),
+                view.getStartTime(),
+                view.getEndTime(),
+                view.getStatus().name()
+        );
+    }
+
+    public static List<BookingResponse> toResponses(List<BookingView> views) {
+        return views.stream()
+                .map(BookingViewProjector::toResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.SlotHold;
+
+import java.time.Instant;
+
+public record HeldSlot(
+        Long holdId,
+        Long staffId,
+        Instant start,
+        Instant end,
+        Instant expiresAt
+) {
+    public static HeldSlot of(SlotHold hold) {
+        return new HeldSlot(
+                hold.getId(),
+                hold.getStaffId(),
+                hold.getStartTime(),
+                hold.getEndTime(),
+                hold.getExpiresAt()
+        );
+    }
+
+    public boolean isActive(Instant now) {
+        return expiresAt.isAfter(now);
+    }
+
+    public boolean overlaps(Instant otherStart, Instant otherEnd) {
+        return start.isBefore(otherEnd) && end.isAfter(otherStart);
+    }
+}
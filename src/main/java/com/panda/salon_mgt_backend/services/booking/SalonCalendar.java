@@ -0,0 +1,225 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.SalonOpeningHours;
+import com.panda.salon_mgt_backend.models.StaffScheduleEntry;
+import com.panda.salon_mgt_backend.models.StaffScheduleKind;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled working calendar of one salon.
+ * <p>
+ * Opening hours, staff shifts and breaks are folded once into a per-staff weekly template of
+ * sorted minute-of-day pairs (shifts ∩ opening hours − breaks). A date is then resolved by a
+ * holiday lookup and a zone conversion, and the resulting {@link WorkingDay} is memoized for
+ * the lifetime of the calendar, so availability and conflict checks only intersect bookings
+ * with a few precomputed intervals.
+ */
+public final class SalonCalendar {
+
+    // used until a salon configures its own opening hours
+    static final LocalTime DEFAULT_OPENING = LocalTime.of(9, 0);
+    static final LocalTime DEFAULT_CLOSING = LocalTime.of(21, 0);
+
+    private static final int[] NONE = new int[0];
+
+    private record StaffDate(Long staffId, LocalDate date) {
+    }
+
+    private final ZoneId zone;
+    private final int[][] salonWeek;
+    private final Map<Long, int[][]> staffWeeks;
+    private final Set<LocalDate> holidays;
+    private final ConcurrentHashMap<StaffDate, WorkingDay> days = new ConcurrentHashMap<>();
+
+    private SalonCalendar(ZoneId zone, int[][] salonWeek, Map<Long, int[][]> staffWeeks, Set<LocalDate> holidays) {
+        this.zone = zone;
+        this.salonWeek = salonWeek;
+        this.staffWeeks = staffWeeks;
+        this.holidays = holidays;
+    }
+
+    public static SalonCalendar compile(
+            ZoneId zone,
+            Collection<SalonOpeningHours> openingHours,
+            Collection<StaffScheduleEntry> staffSchedule,
+            Collection<LocalDate> holidays
+    ) {
+        int[][] salonWeek = new int[7][];
+
+        if (openingHours.isEmpty()) {
+            Arrays.fill(salonWeek, new int[]{minuteOf(DEFAULT_OPENING), minuteOf(DEFAULT_CLOSING)});
+        } else {
+            List<List<int[]>> ranges = emptyWeek();
+            for (SalonOpeningHours h : openingHours) {
+                ranges.get(h.getDayOfWeek().ordinal()).add(new int[]{minuteOf(h.getOpensAt()), minuteOf(h.getClosesAt())});
+            }
+            for (int d = 0; d < 7; d++) {
+                salonWeek[d] = normalize(ranges.get(d));
+            }
+        }
+
+        Map<Long, List<List<int[]>>> shifts = new HashMap<>();
+        Map<Long, List<List<int[]>>> breaks = new HashMap<>();
+
+        for (StaffScheduleEntry e : staffSchedule) {
+            Map<Long, List<List<int[]>>> target = e.getKind() == StaffScheduleKind.SHIFT ? shifts : breaks;
+            target.computeIfAbsent(e.getStaffId(), id -> emptyWeek())
+                    .get(e.getDayOfWeek().ordinal())
+                    .add(new int[]{minuteOf(e.getStartsAt()), minuteOf(e.getEndsAt())});
+        }
+
+        Map<Long, int[][]> staffWeeks = new HashMap<>();
+
+        for (Long staffId : union(shifts.keySet(), breaks.keySet())) {
+            List<List<int[]>> staffShifts = shifts.get(staffId);
+            List<List<int[]>> staffBreaks = breaks.get(staffId);
+            int[][] week = new int[7][];
+
+            for (int d = 0; d < 7; d++) {
+                int[] working = staffShifts == null
+                        ? salonWeek[d]
+                        : intersect(normalize(staffShifts.get(d)), salonWeek[d]);
+
+                week[d] = staffBreaks == null
+                        ? working
+                        : subtract(working, normalize(staffBreaks.get(d)));
+            }
+
+            staffWeeks.put(staffId, week);
+        }
+
+        return new SalonCalendar(zone, salonWeek, Map.copyOf(staffWeeks), Set.copyOf(holidays));
+    }
+
+    public ZoneId zone() {
+        return zone;
+    }
+
+    public WorkingDay workingDay(Long staffId, LocalDate date) {
+        return days.computeIfAbsent(new StaffDate(staffId, date), key -> {
+            if (holidays.contains(date)) {
+                return WorkingDay.CLOSED;
+            }
+            int[][] week = staffWeeks.getOrDefault(staffId, salonWeek);
+            return WorkingDay.of(date, zone, week[date.getDayOfWeek().ordinal()]);
+        });
+    }
+
+    /**
+     * True if [start, end) falls inside one of the staff member's working intervals.
+     */
+    public boolean covers(Long staffId, Instant start, Instant end) {
+        return workingDay(staffId, LocalDate.ofInstant(start, zone)).covers(start, end);
+    }
+
+    /* ---------- Interval arithmetic over sorted [start, end) minute pairs ---------- */
+
+    private static int[] normalize(List<int[]> ranges) {
+        if (ranges.isEmpty()) {
+            return NONE;
+        }
+
+        ranges.sort(Comparator.comparingInt(r -> r[0]));
+
+        int[] out = new int[ranges.size() * 2];
+        int n = 0;
+
+        for (int[] r : ranges) {
+            if (n > 0 && r[0] <= out[n - 1]) {
+                out[n - 1] = Math.max(out[n - 1], r[1]);
+            } else {
+                out[n++] = r[0];
+                out[n++] = r[1];
+            }
+        }
+
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < a.length && j < b.length) {
+            int start = Math.max(a[i], b[j]);
+            int end = Math.min(a[i + 1], b[j + 1]);
+
+            if (start < end) {
+                out[n++] = start;
+                out[n++] = end;
+            }
+
+            if (a[i + 1] < b[j + 1]) {
+                i += 2;
+            } else {
+                j += 2;
+            }
+        }
+
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int[] subtract(int[] a, int[] b) {
+        List<Integer> out = new ArrayList<>();
+        int j = 0;
+
+        for (int i = 0; i < a.length; i += 2) {
+            int start = a[i];
+            int end = a[i + 1];
+
+            while (j < b.length && b[j + 1] <= start) {
+                j += 2;
+            }
+
+            for (int k = j; k < b.length && b[k] < end; k += 2) {
+                if (b[k] > start) {
+                    out.add(start);
+                    out.add(b[k]);
+                }
+                start = Math.max(start, b[k + 1]);
+            }
+
+            if (start < end) {
+                out.add(start);
+                out.add(end);
+            }
+        }
+
+        return out.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static List<List<int[]>> emptyWeek() {
+        List<List<int[]>> week = new ArrayList<>(7);
+        for (DayOfWeek ignored : DayOfWeek.values()) {
+            week.add(new ArrayList<>());
+        }
+        return week;
+    }
+
+    private static Set<Long> union(Set<Long> a, Set<Long> b) {
+        Set<Long> all = new HashSet<>(a);
+        all.addAll(b);
+        return all;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
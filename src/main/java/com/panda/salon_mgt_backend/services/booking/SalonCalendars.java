@@ -0,0 +1,132 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.exceptions.ResourceNotFoundException;
+import com.panda.salon_mgt_backend.models.Salon;
+import com.panda.salon_mgt_backend.models.SalonHoliday;
+import com.panda.salon_mgt_backend.repositories.SalonHolidayRepository;
+import com.panda.salon_mgt_backend.repositories.SalonOpeningHoursRepository;
+import com.panda.salon_mgt_backend.repositories.SalonRepository;
+import com.panda.salon_mgt_backend.repositories.StaffScheduleRepository;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-salon cache of compiled {@link SalonCalendar}s.
+ * <p>
+ * A calendar is compiled on first use and kept until the salon's schedule (timezone, opening
+ * hours, holidays, staff shifts) changes, which evicts it after commit. Entries are also
+ * recompiled after {@code booking.calendar.reload-after-seconds}, which bounds staleness from
+ * schedule edits on other nodes.
+ */
+@Slf4j
+@Component
+public class SalonCalendars {
+
+    // holidays further back than this never affect a bookable slot
+    private static final int PAST_HOLIDAY_DAYS = 1;
+
+    private final SalonRepository salonRepository;
+    private final SalonOpeningHoursRepository openingHoursRepository;
+    private final SalonHolidayRepository holidayRepository;
+    private final StaffScheduleRepository staffScheduleRepository;
+    private final Duration reloadAfter;
+    private final ZoneId defaultZone;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // bumped by every eviction; a compile that raced one is returned but not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SalonCalendars(
+            SalonRepository salonRepository,
+            SalonOpeningHoursRepository openingHoursRepository,
+            SalonHolidayRepository holidayRepository,
+            StaffScheduleRepository staffScheduleRepository,
+            @Value("${booking.calendar.reload-after-seconds:300}") long reloadAfterSeconds,
+            @Value("${booking.calendar.default-zone:UTC}") String defaultZone
+    ) {
+        this.salonRepository = salonRepository;
+        this.openingHoursRepository = openingHoursRepository;
+        this.holidayRepository = holidayRepository;
+        this.staffScheduleRepository = staffScheduleRepository;
+        this.reloadAfter = Duration.ofSeconds(reloadAfterSeconds);
+        this.defaultZone = ZoneId.of(defaultZone);
+    }
+
+    public SalonCalendar get(Long salonId) {
+        Entry entry = entries.get(salonId);
+
+        if (entry != null && entry.loadedAt().plus(reloadAfter).isAfter(Instant.now())) {
+            return entry.calendar();
+        }
+
+        long generation = evictions.get();
+        SalonCalendar calendar = compile(salonId);
+
+        Entry loaded = new Entry(calendar, Instant.now());
+        entries.put(salonId, loaded);
+        if (evictions.get() != generation) {
+            entries.remove(salonId, loaded);
+        }
+        return calendar;
+    }
+
+    public void evict(Long salonId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictions.incrementAndGet();
+            entries.remove(salonId);
+        });
+    }
+
+    /**
+     * The salon's zone, served from its cached calendar.
+     */
+    public ZoneId zone(Long salonId) {
+        return get(salonId).zone();
+    }
+
+    public ZoneId defaultZone() {
+        return defaultZone;
+    }
+
+    /**
+     * The salon's zone, falling back to {@code booking.calendar.default-zone} when none is set.
+     */
+    public ZoneId zoneOf(Salon salon) {
+        return salon.getTimezone() == null
+                ? defaultZone
+                : ZoneId.of(salon.getTimezone());
+    }
+
+    private SalonCalendar compile(Long salonId) {
+        Salon salon = salonRepository.findById(salonId)
+                .orElseThrow(() -> new ResourceNotFoundException("Salon not found"));
+
+        ZoneId zone = zoneOf(salon);
+        LocalDate since = LocalDate.now(zone).minusDays(PAST_HOLIDAY_DAYS);
+
+        SalonCalendar calendar = SalonCalendar.compile(
+                zone,
+                openingHoursRepository.findBySalonId(salonId),
+                staffScheduleRepository.findBySalonId(salonId),
+                holidayRepository
+                        .findBySalonIdAndHolidayDateGreaterThanEqualOrderByHolidayDateAsc(salonId, since)
+                        .stream()
+                        .map(SalonHoliday::getHolidayDate)
+                        .toList()
+        );
+
+        log.debug("calendar.compiled salonId={} zone={}", salonId, zone);
+        return calendar;
+    }
+
+    private record Entry(SalonCalendar calendar, Instant loadedAt) {
+    }
+}
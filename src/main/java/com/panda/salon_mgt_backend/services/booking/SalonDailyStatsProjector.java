@@ -0,0 +1,106 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.BookingEventType;
+import com.panda.salon_mgt_backend.models.BookingView;
+import com.panda.salon_mgt_backend.repositories.BookingViewRepository;
+import com.panda.salon_mgt_backend.repositories.SalonDailyStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code salon_daily_stats} in step with booking lifecycle events from the outbox.
+ * A batch is folded into one delta per salon-day, each applied as a single upsert.
+ * Days are the booking's start date in the salon's own zone.
+ */
+@Component
+public class SalonDailyStatsProjector implements BookingEventSubscriber {
+
+    private final SalonDailyStatsRepository salonDailyStatsRepository;
+    private final BookingViewRepository bookingViewRepository;
+    private final SalonCalendars salonCalendars;
+    private final int outboxMaxAttempts;
+
+    public SalonDailyStatsProjector(
+            SalonDailyStatsRepository salonDailyStatsRepository,
+            BookingViewRepository bookingViewRepository,
+            SalonCalendars salonCalendars,
+            @Value("${booking.outbox.max-attempts:10}") int outboxMaxAttempts
+    ) {
+        this.salonDailyStatsRepository = salonDailyStatsRepository;
+        this.bookingViewRepository = bookingViewRepository;
+        this.salonCalendars = salonCalendars;
+        this.outboxMaxAttempts = outboxMaxAttempts;
+    }
+
+    @Override
+    public void onEvents(List<BookingLifecycleEvent> events) {
+        Map<Long, BigDecimal> prices = completedPrices(events);
+        Map<SalonDay, Delta> deltas = new LinkedHashMap<>();
+        Map<Long, ZoneId> zones = new HashMap<>();
+
+        for (BookingLifecycleEvent event : events) {
+            ZoneId zone = zones.computeIfAbsent(event.salonId(), salonCalendars::zone);
+            Delta delta = deltas.computeIfAbsent(
+                    new SalonDay(event.salonId(), LocalDate.ofInstant(event.startTime(), zone)),
+                    k -> new Delta()
+            );
+            switch (event.type()) {
+                case CREATED -> delta.bookings++;
+                case CANCELLED -> delta.cancelled++;
+                case NO_SHOW -> delta.noShow++;
+                case COMPLETED -> {
+                    delta.completed++;
+                    delta.revenue = delta.revenue.add(prices.getOrDefault(event.bookingId(), BigDecimal.ZERO));
+                }
+            }
+        }
+
+        deltas.forEach((key, d) -> salonDailyStatsRepository.increment(
+                key.salonId(), key.day(), d.bookings, d.completed, d.cancelled, d.noShow, d.revenue
+        ));
+    }
+
+    /**
+     * Regenerates the salon's rows, leaving events still pending in the outbox to this projector.
+     */
+    @Transactional
+    public int rebuild(Long salonId) {
+        return salonDailyStatsRepository.rebuildSalon(salonId, salonCalendars.zone(salonId).getId(), outboxMaxAttempts);
+    }
+
+    // revenue uses the price captured in booking_view, same as the rebuild and the dashboard
+    private Map<Long, BigDecimal> completedPrices(List<BookingLifecycleEvent> events) {
+        List<Long> completedIds = events.stream()
+                .filter(e -> e.type() == BookingEventType.COMPLETED)
+                .map(BookingLifecycleEvent::bookingId)
+                .toList();
+
+        if (completedIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return bookingViewRepository.findAllById(completedIds)
+                .stream()
+                .collect(Collectors.toMap(BookingView::getBookingId, BookingView::getServicePrice));
+    }
+
+    private record SalonDay(Long salonId, LocalDate day) {
+    }
+
+    private static final class Delta {
+        long bookings;
+        long completed;
+        long cancelled;
+        long noShow;
+        BigDecimal revenue = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,71 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.payloads.AdminDashboardResponse;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-salon admin dashboard snapshot.
+ * <p>
+ * Booking create/transition and service/staff changes evict the salon's entry after commit.
+ * Entries also expire at the end of the day (the "today" counter moves) and after a short TTL,
+ * which bounds staleness from writes on other nodes.
+ */
+@Component
+public class SalonDashboardCache {
+
+    private final Duration ttl;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // bumped by every eviction; a load that raced one is returned but not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SalonDashboardCache(
+            @Value("${booking.dashboard.cache-ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public AdminDashboardResponse get(Long salonId, Supplier<AdminDashboardResponse> loader) {
+        Entry entry = entries.get(salonId);
+
+        if (entry != null && entry.isFresh(ttl)) {
+            return entry.snapshot();
+        }
+
+        long generation = evictions.get();
+        AdminDashboardResponse snapshot = loader.get();
+
+        Entry loaded = new Entry(snapshot, LocalDate.now(), Instant.now());
+        entries.put(salonId, loaded);
+        if (evictions.get() != generation) {
+            entries.remove(salonId, loaded);
+        }
+        return snapshot;
+    }
+
+    public void evict(Long salonId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictions.incrementAndGet();
+            entries.remove(salonId);
+        });
+    }
+
+    private record Entry(
+            AdminDashboardResponse snapshot,
+            LocalDate day,
+            Instant loadedAt
+    ) {
+        boolean isFresh(Duration ttl) {
+            return day.equals(LocalDate.now())
+                    && loadedAt.plus(ttl).isAfter(Instant.now());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Occupancy bitmap for one staff-day at {@value #TICK_MINUTES}-minute granularity.
+ * <p>
+ * Bit {@code i} set means tick {@code i} (counted from the grid origin) is unavailable.
+ * Busy ranges are OR-ed in with word masks and free runs are found with
+ * {@link Long#numberOfTrailingZeros(long)} scans, so a whole day costs five words
+ * and no allocation. Instances are mutable and meant to be reused per thread.
+ */
+public final class SlotGrid {
+
+    public static final int TICK_MINUTES = 5;
+
+    private static final long TICK_SECONDS = TICK_MINUTES * 60L;
+    private static final int WORDS = 5;
+
+    // 320 ticks = 26h40m, enough for a 25h DST day
+    public static final int CAPACITY = WORDS * Long.SIZE;
+
+    private final long[] busy = new long[WORDS];
+    private long originEpochSecond;
+
+    /**
+     * Clears the grid and anchors tick 0 at {@code origin}.
+     */
+    public SlotGrid reset(Instant origin) {
+        Arrays.fill(busy, 0L);
+        originEpochSecond = origin.getEpochSecond();
+        return this;
+    }
+
+    /* ---------- Marking ---------- */
+
+    /**
+     * Marks everything outside the working intervals of {@code day} as busy.
+     */
+    public void restrictTo(WorkingDay day) {
+        if (day.isClosed()) {
+            markBusy(0, CAPACITY);
+            return;
+        }
+
+        int closedFrom = 0;
+        for (int i = 0; i < day.intervalCount(); i++) {
+            markBusy(closedFrom, ceilTick(day.openAt(i)));
+            closedFrom = floorTick(day.closeAt(i));
+        }
+        markBusy(closedFrom, CAPACITY);
+    }
+
+    /**
+     * Marks [start, end) as busy, widened outward to whole ticks.
+     */
+    public void markBusy(Instant start, Instant end) {
+        markBusy(floorTick(start), ceilTick(end));
+    }
+
+    public void markBusy(int fromTick, int toTick) {
+        fromTick = Math.max(fromTick, 0);
+        toTick = Math.min(toTick, CAPACITY);
+
+        if (fromTick >= toTick) {
+            return;
+        }
+
+        int firstWord = fromTick >>> 6;
+        int lastWord = (toTick - 1) >>> 6;
+
+        long firstMask = -1L << (fromTick & 63);
+        long lastMask = -1L >>> (63 - ((toTick - 1) & 63));
+
+        if (firstWord == lastWord) {
+            busy[firstWord] |= firstMask & lastMask;
+            return;
+        }
+
+        busy[firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            busy[w] = -1L;
+        }
+        busy[lastWord] |= lastMask;
+    }
+
+    /* ---------- Scanning ---------- */
+
+    /**
+     * First free tick at or after {@code fromTick}, or {@link #CAPACITY} if none.
+     */
+    public int nextFree(int fromTick) {
+        return scan(fromTick, true);
+    }
+
+    /**
+     * First busy tick at or after {@code fromTick}, or {@link #CAPACITY} if none.
+     */
+    public int nextBusy(int fromTick) {
+        return scan(fromTick, false);
+    }
+
+    /* ---------- Conversions ---------- */
+
+    public Instant instantAt(int tick) {
+        return Instant.ofEpochSecond(originEpochSecond + tick * TICK_SECONDS);
+    }
+
+    public static int ticksFor(int minutes) {
+        return (minutes + TICK_MINUTES - 1) / TICK_MINUTES;
+    }
+
+    private int floorTick(Instant instant) {
+        long ticks = Math.floorDiv(instant.getEpochSecond() - originEpochSecond, TICK_SECONDS);
+        return clamp(ticks);
+    }
+
+    private int ceilTick(Instant instant) {
+        long seconds = instant.getEpochSecond() - originEpochSecond;
+        if (instant.getNano() > 0) {
+            seconds++;
+        }
+        return clamp(-Math.floorDiv(-seconds, TICK_SECONDS));
+    }
+
+    private static int clamp(long tick) {
+        return (int) Math.max(0, Math.min(tick, CAPACITY));
+    }
+
+    private int scan(int fromTick, boolean free) {
+        if (fromTick >= CAPACITY) {
+            return CAPACITY;
+        }
+
+        int w = fromTick >>> 6;
+        long word = (free ? ~busy[w] : busy[w]) & (-1L << (fromTick & 63));
+
+        while (word == 0) {
+            if (++w == WORDS) {
+                return CAPACITY;
+            }
+            word = free ? ~busy[w] : busy[w];
+        }
+
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    }
+}
@@ -0,0 +1,222 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.SlotHold;
+import com.panda.salon_mgt_backend.repositories.SlotHoldRepository;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Per-node view of active slot holds, expired by a hashed timing wheel.
+ * <p>
+ * Holds are indexed per staff member for availability. Each hold
+ * also sits in the wheel bucket of its expiry second; a one-second tick drains the buckets it
+ * passes, so expiry costs O(expired) instead of a scan. Holds longer than one revolution are
+ * re-queued until due. Holds placed on other nodes are picked up by polling {@code slot_holds}
+ * for recent rows; a hold released elsewhere stays visible here until it expires.
+ * <p>
+ * This is a read-side cache only: it can lag behind releases on other nodes, so booking writes
+ * never reject on it and check holds in the database under the staff lock instead.
+ */
+@Slf4j
+@Component
+public class SlotHolds {
+
+    /**
+     * How long an expired hold row still blocks other writers. A hold is consumed only while it
+     * is unexpired, but the consuming transaction may commit a little later; writers that see
+     * the hold row treat it as taken for this long past its expiry.
+     */
+    public static final Duration CONSUME_GRACE = Duration.ofSeconds(30);
+
+    private static final int WHEEL_SLOTS = 512;
+
+    // rows committed slightly out of created_at order are still picked up
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private static final Comparator<HeldSlot> BY_START =
+            Comparator.comparing(HeldSlot::start)
+                    .thenComparing(HeldSlot::holdId);
+
+    private final SlotHoldRepository slotHoldRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration holdFor;
+    private final int maxPerHolder;
+    private final ConcurrentHashMap<Long, Map<Long, HeldSlot>> byStaff = new ConcurrentHashMap<>();
+    private final List<ConcurrentLinkedQueue<HeldSlot>> wheel = new ArrayList<>(WHEEL_SLOTS);
+
+    private volatile long cursor = Instant.now().getEpochSecond();
+    private volatile Instant syncedUpTo = Instant.EPOCH;
+
+    public SlotHolds(
+            SlotHoldRepository slotHoldRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${booking.hold.ttl-seconds:120}") long ttlSeconds,
+            @Value("${booking.hold.max-per-holder:3}") int maxPerHolder
+    ) {
+        this.slotHoldRepository = slotHoldRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.holdFor = Duration.ofSeconds(ttlSeconds);
+        this.maxPerHolder = maxPerHolder;
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /**
+     * Expiry for a hold placed now on a slot starting at {@code start}; never past the start.
+     */
+    public Instant expiryFor(Instant now, Instant start) {
+        Instant expiresAt = now.plus(holdFor);
+        return expiresAt.isAfter(start) ? start : expiresAt;
+    }
+
+    public int maxPerHolder() {
+        return maxPerHolder;
+    }
+
+    /**
+     * Row-locks holds overlapping [start, end) and returns those still blocking, i.e. unexpired
+     * or expired within {@link #CONSUME_GRACE}. Call under the staff lock.
+     */
+    public List<SlotHold> lockBlocking(Long staffId, Instant start, Instant end) {
+        Instant blockingSince = Instant.now().minus(CONSUME_GRACE);
+
+        return slotHoldRepository.lockOverlapping(staffId, start, end)
+                .stream()
+                .filter(h -> h.getExpiresAt().isAfter(blockingSince))
+                .toList();
+    }
+
+    /* ---------- Reads ---------- */
+
+    /**
+     * Active holds overlapping [from, to), ordered by start time.
+     */
+    public List<HeldSlot> heldBetween(Long staffId, Instant from, Instant to) {
+        Map<Long, HeldSlot> holds = byStaff.get(staffId);
+        if (holds == null) {
+            return List.of();
+        }
+
+        Instant now = Instant.now();
+        List<HeldSlot> result = new ArrayList<>();
+        for (HeldSlot hold : holds.values()) {
+            if (hold.isActive(now) && hold.overlaps(from, to)) {
+                result.add(hold);
+            }
+        }
+        result.sort(BY_START);
+        return result;
+    }
+
+    /**
+     * Holds currently indexed on this node, expired or not.
+     */
+    int liveHolds() {
+        return byStaff.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /* ---------- Writes (applied after commit) ---------- */
+
+    public void onPlaced(SlotHold hold) {
+        HeldSlot held = HeldSlot.of(hold);
+        TransactionCallbacks.afterCommit(() -> add(held));
+    }
+
+    public void onReleased(SlotHold hold) {
+        HeldSlot held = HeldSlot.of(hold);
+        TransactionCallbacks.afterCommit(() -> remove(held));
+    }
+
+    /* ---------- Wheel ---------- */
+
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        long now = Instant.now().getEpochSecond();
+        long from = Math.max(cursor + 1, now - WHEEL_SLOTS + 1);
+
+        for (long second = from; second <= now; second++) {
+            ConcurrentLinkedQueue<HeldSlot> bucket = wheel.get(slotOf(second));
+
+            // bounded by the size on entry, so re-queued holds are not drained twice
+            for (int n = bucket.size(); n > 0; n--) {
+                HeldSlot hold = bucket.poll();
+                if (hold == null) {
+                    break;
+                }
+                if (hold.expiresAt().getEpochSecond() <= now) {
+                    remove(hold);
+                } else {
+                    schedule(hold);
+                }
+            }
+        }
+
+        cursor = now;
+    }
+
+    /* ---------- Cross-node ---------- */
+
+    @Scheduled(fixedDelayString = "${booking.hold.sync-millis:1000}")
+    public void sync() {
+        Instant now = Instant.now();
+        List<SlotHold> recent = slotHoldRepository
+                .findByCreatedAtAfterAndExpiresAtAfter(syncedUpTo.minus(SYNC_OVERLAP), now);
+
+        recent.forEach(hold -> add(HeldSlot.of(hold)));
+        syncedUpTo = now;
+    }
+
+    @Scheduled(cron = "0 * * * * *")
+    public void purgeExpired() {
+        Integer purged = transactionTemplate.execute(status ->
+                slotHoldRepository.purgeExpired(Instant.now().minus(CONSUME_GRACE))
+        );
+        if (purged != null && purged > 0) {
+            log.debug("booking.hold.purged rows={}", purged);
+        }
+    }
+
+    private void add(HeldSlot hold) {
+        boolean[] added = new boolean[1];
+        byStaff.compute(hold.staffId(), (staffId, holds) -> {
+            Map<Long, HeldSlot> target = holds != null ? holds : new ConcurrentHashMap<>();
+            added[0] = target.putIfAbsent(hold.holdId(), hold) == null;
+            return target;
+        });
+
+        if (added[0]) {
+            schedule(hold);
+        }
+    }
+
+    private void remove(HeldSlot hold) {
+        byStaff.computeIfPresent(hold.staffId(), (staffId, holds) -> {
+            holds.remove(hold.holdId());
+            return holds.isEmpty() ? null : holds;
+        });
+    }
+
+    private void schedule(HeldSlot hold) {
+        long due = Math.max(hold.expiresAt().getEpochSecond(), cursor + 1);
+        wheel.get(slotOf(due)).add(hold);
+    }
+
+    private static int slotOf(long second) {
+        return (int) Math.floorMod(second, (long) WHEEL_SLOTS);
+    }
+}
@@ -0,0 +1,214 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.repositories.BookingRepository;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-staff, per-day sorted index of CONFIRMED bookings.
+ * <p>
+ * Days are bucketed by the UTC date of the booking start and loaded lazily from
+ * {@code idx_booking_staff_time}. Mutations are applied only after the surrounding
+ * transaction commits, so rolled-back bookings never leak into the index.
+ * <p>
+ * The index is a per-node cache and may miss bookings released on other nodes, so it is only
+ * trusted when it says a slot is free. A conflict it reports is confirmed against the database
+ * before anyone is turned away; a conflict the database denies drops the stale days.
+ */
+@Slf4j
+@Component
+public class StaffBookingIndex {
+
+    // Services.durationMinutes is capped at 600, so no booking is longer than this
+    private static final Duration MAX_BOOKING_LENGTH = Duration.ofMinutes(600);
+
+    private static final Comparator<BookingInterval> BY_START =
+            Comparator.comparing(BookingInterval::start)
+                    .thenComparing(BookingInterval::bookingId);
+
+    private final BookingRepository bookingRepository;
+    private final Duration reloadAfter;
+    private final ConcurrentHashMap<DayKey, StaffDay> days = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+
+    public StaffBookingIndex(
+            BookingRepository bookingRepository,
+            @Value("${booking.index.reload-after-seconds:300}") long reloadAfterSeconds
+    ) {
+        this.bookingRepository = bookingRepository;
+        this.reloadAfter = Duration.ofSeconds(reloadAfterSeconds);
+    }
+
+    /* ---------- Reads ---------- */
+
+    /**
+     * Whether a CONFIRMED booking overlaps [start, end). A free answer comes from memory; a
+     * conflict is always confirmed with {@code existsOverlappingBooking}.
+     */
+    public boolean hasConflict(Long staffId, Instant start, Instant end) {
+        boolean hinted = false;
+        for (long day = firstDay(start); day <= lastDay(end) && !hinted; day++) {
+            hinted = day(staffId, day).overlapsAny(start, end);
+        }
+        if (!hinted) {
+            return false;
+        }
+
+        if (bookingRepository.existsOverlappingBooking(staffId, start, end)) {
+            return true;
+        }
+        // released elsewhere; reload these days on next read
+        for (long day = firstDay(start); day <= lastDay(end); day++) {
+            days.remove(new DayKey(staffId, day));
+        }
+        log.debug("booking.index.stale staffId={} start={}", staffId, start);
+        return false;
+    }
+
+    /**
+     * CONFIRMED intervals overlapping [from, to), ordered by start time.
+     */
+    public List<BookingInterval> confirmedBetween(Long staffId, Instant from, Instant to) {
+        List<BookingInterval> result = new ArrayList<>();
+        for (long day = firstDay(from); day <= lastDay(to); day++) {
+            day(staffId, day).collectOverlapping(from, to, result);
+        }
+        result.sort(BY_START);
+        return result;
+    }
+
+    /* ---------- Writes (applied after commit) ---------- */
+
+    public void onConfirmed(Long staffId, BookingInterval interval) {
+        TransactionCallbacks.afterCommit(() -> {
+            writes.incrementAndGet();
+            StaffDay day = days.get(new DayKey(staffId, epochDay(interval.start())));
+            if (day != null) {
+                day.add(interval);
+            }
+        });
+    }
+
+    public void onReleased(Long staffId, BookingInterval interval) {
+        TransactionCallbacks.afterCommit(() -> {
+            writes.incrementAndGet();
+            StaffDay day = days.get(new DayKey(staffId, epochDay(interval.start())));
+            if (day != null) {
+                day.remove(interval);
+            }
+        });
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void evictPastDays() {
+        long yesterday = LocalDate.now(ZoneOffset.UTC).toEpochDay() - 1;
+        int before = days.size();
+        days.keySet().removeIf(k -> k.epochDay() < yesterday);
+        log.debug("booking.index.evicted count={}", before - days.size());
+    }
+
+    /* ---------- Internals ---------- */
+
+    private StaffDay day(Long staffId, long epochDay) {
+        DayKey key = new DayKey(staffId, epochDay);
+        StaffDay day = days.get(key);
+
+        if (day == null || day.isStale(reloadAfter)) {
+            long generation = writes.get();
+            StaffDay loaded = load(key);
+            days.put(key, loaded);
+
+            // a write committed during the load may be missing from it; serve it once, don't keep it
+            if (writes.get() != generation) {
+                days.remove(key, loaded);
+            }
+            return loaded;
+        }
+        return day;
+    }
+
+    private StaffDay load(DayKey key) {
+        Instant from = LocalDate.ofEpochDay(key.epochDay()).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = from.plus(Duration.ofDays(1));
+
+        StaffDay day = new StaffDay();
+        bookingRepository
+                .findConfirmedIntervals(key.staffId(), from, to)
+                .forEach(day::add);
+        return day;
+    }
+
+    private static long firstDay(Instant from) {
+        return epochDay(from.minus(MAX_BOOKING_LENGTH));
+    }
+
+    private static long lastDay(Instant to) {
+        return epochDay(to.minusNanos(1));
+    }
+
+    private static long epochDay(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 86_400L);
+    }
+
+    private record DayKey(long staffId, long epochDay) {}
+
+    private static final class StaffDay {
+
+        private final NavigableSet<BookingInterval> intervals = new TreeSet<>(BY_START);
+        private final Instant loadedAt = Instant.now();
+
+        synchronized void add(BookingInterval interval) {
+            intervals.add(interval);
+        }
+
+        synchronized void remove(BookingInterval interval) {
+            intervals.removeIf(i -> i.bookingId().equals(interval.bookingId()));
+        }
+
+        synchronized boolean overlapsAny(Instant from, Instant to) {
+            for (BookingInterval i : candidates(from, to)) {
+                if (i.overlaps(from, to)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized void collectOverlapping(Instant from, Instant to, List<BookingInterval> out) {
+            for (BookingInterval i : candidates(from, to)) {
+                if (i.overlaps(from, to)) {
+                    out.add(i);
+                }
+            }
+        }
+
+        boolean isStale(Duration reloadAfter) {
+            return loadedAt.plus(reloadAfter).isBefore(Instant.now());
+        }
+
+        // only intervals starting in [from - MAX_BOOKING_LENGTH, to) can overlap
+        private NavigableSet<BookingInterval> candidates(Instant from, Instant to) {
+            return intervals.subSet(
+                    new BookingInterval(Long.MIN_VALUE, null, from.minus(MAX_BOOKING_LENGTH), from),
+                    true,
+                    new BookingInterval(Long.MIN_VALUE, null, to, to),
+                    false
+            );
+        }
+    }
+}
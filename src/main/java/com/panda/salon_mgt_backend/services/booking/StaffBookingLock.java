@@ -0,0 +1,113 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.exceptions.CanNotException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes booking writes per staff member for the lifetime of the current transaction.
+ * <p>
+ * Two layers:
+ * <ol>
+ *     <li>an in-JVM lock per staff id, so concurrent requests on this node queue in memory
+ *     instead of piling up on the database</li>
+ *     <li>{@code pg_advisory_xact_lock}, so requests on other nodes are serialized too;
+ *     Postgres releases it on commit or rollback</li>
+ * </ol>
+ * Writes for different staff never wait on each other, unlike SERIALIZABLE or table locks.
+ * In-JVM locks are reference counted and dropped when the last holder or waiter leaves, so the
+ * map only holds staff with writes in flight.
+ */
+@Slf4j
+@Component
+public class StaffBookingLock {
+
+    // classid for pg_advisory_xact_lock(int, int), keeps booking locks apart from other advisory users
+    private static final int ADVISORY_NAMESPACE = 0x424B;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long waitMillis;
+    private final ConcurrentHashMap<Long, StaffLock> locks = new ConcurrentHashMap<>();
+
+    public StaffBookingLock(
+            JdbcTemplate jdbcTemplate,
+            @Value("${booking.lock.wait-millis:5000}") long waitMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * Locks the staff member's schedule until the current transaction completes.
+     * Must be called inside a transaction.
+     */
+    public void lock(Long staffId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Staff booking lock requires an active transaction");
+        }
+
+        StaffLock lock = retain(staffId);
+
+        if (!acquire(lock)) {
+            release(staffId, lock);
+            log.warn("booking.lock.timeout staffId={} waitMillis={}", staffId, waitMillis);
+            throw new CanNotException("Staff schedule is busy, please retry");
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+                release(staffId, lock);
+            }
+        });
+
+        jdbcTemplate.query(
+                "select pg_advisory_xact_lock(?, ?)",
+                rs -> null,
+                ADVISORY_NAMESPACE,
+                Long.hashCode(staffId)
+        );
+    }
+
+    /**
+     * Staff ids with an in-JVM lock currently held or awaited.
+     */
+    int liveLocks() {
+        return locks.size();
+    }
+
+    // users is only touched inside compute, which runs atomically per key
+    private StaffLock retain(Long staffId) {
+        return locks.compute(staffId, (id, lock) -> {
+            StaffLock l = lock == null ? new StaffLock() : lock;
+            l.users++;
+            return l;
+        });
+    }
+
+    private void release(Long staffId, StaffLock lock) {
+        locks.computeIfPresent(staffId, (id, l) -> l == lock && --l.users == 0 ? null : l);
+    }
+
+    private boolean acquire(StaffLock lock) {
+        try {
+            return lock.tryLock(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class StaffLock extends ReentrantLock {
+        private int users;
+    }
+}
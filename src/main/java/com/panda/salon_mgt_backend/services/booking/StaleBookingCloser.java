@@ -0,0 +1,132 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.BookingEventType;
+import com.panda.salon_mgt_backend.models.BookingOutboxEvent;
+import com.panda.salon_mgt_backend.models.BookingStatus;
+import com.panda.salon_mgt_backend.repositories.BookingViewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Closes CONFIRMED bookings that ended more than {@code booking.auto-close.after-hours} ago.
+ * <p>
+ * Each batch is one set-based UPDATE over {@code idx_booking_status_end} with SKIP LOCKED, so it
+ * never waits on a booking a request is transitioning. The batch then mirrors the manual path:
+ * booking_view status, lifecycle events in the outbox, staff index release and dashboard eviction.
+ */
+@Slf4j
+@Component
+public class StaleBookingCloser {
+
+    private record ClosedBooking(Long id, Long salonId, Long staffId, Long serviceId, Instant start, Instant end) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingViewRepository bookingViewRepository;
+    private final BookingOutbox bookingOutbox;
+    private final StaffBookingIndex staffBookingIndex;
+    private final SalonDashboardCache salonDashboardCache;
+    private final BookingStatus closeAs;
+    private final Duration closeAfter;
+
+    public StaleBookingCloser(
+            JdbcTemplate jdbcTemplate,
+            BookingViewRepository bookingViewRepository,
+            BookingOutbox bookingOutbox,
+            StaffBookingIndex staffBookingIndex,
+            SalonDashboardCache salonDashboardCache,
+            @Value("${booking.auto-close.action:COMPLETED}") BookingStatus closeAs,
+            @Value("${booking.auto-close.after-hours:24}") long afterHours
+    ) {
+        if (closeAs != BookingStatus.COMPLETED && closeAs != BookingStatus.NO_SHOW) {
+            throw new IllegalStateException("booking.auto-close.action must be COMPLETED or NO_SHOW");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookingViewRepository = bookingViewRepository;
+        this.bookingOutbox = bookingOutbox;
+        this.staffBookingIndex = staffBookingIndex;
+        this.salonDashboardCache = salonDashboardCache;
+        this.closeAs = closeAs;
+        this.closeAfter = Duration.ofHours(afterHours);
+    }
+
+    /**
+     * Closes up to {@code limit} stale bookings in one transaction and returns how many were closed.
+     */
+    @Transactional
+    public int closeBatch(int limit) {
+        Instant now = Instant.now();
+
+        List<ClosedBooking> closed = jdbcTemplate.query("""
+                with stale as (
+                    select id
+                    from bookings
+                    where status = 'CONFIRMED'
+                      and end_time < ?
+                    order by end_time
+                    limit ?
+                    for update skip locked
+                )
+                update bookings b
+                set status = ?,
+                    completed_at = case when ? = 'COMPLETED' then ? else b.completed_at end,
+                    updated_at = ?
+                from stale
+                where b.id = stale.id
+                returning b.id, b.salon_id, b.staff_id, b.service_id, b.start_time, b.end_time
+                """,
+                (rs, i) -> new ClosedBooking(
+                        rs.getLong("id"),
+                        rs.getLong("salon_id"),
+                        rs.getLong("staff_id"),
+                        rs.getLong("service_id"),
+                        rs.getTimestamp("start_time").toInstant(),
+                        rs.getTimestamp("end_time").toInstant()
+                ),
+                Timestamp.from(now.minus(closeAfter)),
+                limit,
+                closeAs.name(),
+                closeAs.name(),
+                Timestamp.from(now),
+                Timestamp.valueOf(LocalDateTime.now())
+        );
+
+        if (closed.isEmpty()) {
+            return 0;
+        }
+
+        BookingEventType eventType = closeAs == BookingStatus.COMPLETED
+                ? BookingEventType.COMPLETED
+                : BookingEventType.NO_SHOW;
+
+        List<Long> ids = new ArrayList<>(closed.size());
+        List<BookingOutboxEvent> events = new ArrayList<>(closed.size());
+        Set<Long> salonIds = new HashSet<>();
+
+        for (ClosedBooking b : closed) {
+            ids.add(b.id());
+            events.add(BookingOutboxEvent.of(eventType, b.id(), b.salonId(), b.staffId(), b.serviceId(), b.start()));
+            salonIds.add(b.salonId());
+            staffBookingIndex.onReleased(b.staffId(), new BookingInterval(b.id(), b.staffId(), b.start(), b.end()));
+        }
+
+        bookingViewRepository.updateStatusForIds(ids, closeAs);
+        bookingOutbox.appendAll(events);
+        salonIds.forEach(salonDashboardCache::evict);
+
+        log.info("booking.auto_closed status={} count={} salons={}", closeAs, closed.size(), salonIds.size());
+        return closed.size();
+    }
+}
@@ -0,0 +1,241 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.BookingEventType;
+import com.panda.salon_mgt_backend.models.SlotHold;
+import com.panda.salon_mgt_backend.models.WaitlistEntry;
+import com.panda.salon_mgt_backend.models.WaitlistStatus;
+import com.panda.salon_mgt_backend.repositories.BookingRepository;
+import com.panda.salon_mgt_backend.repositories.BookingViewRepository;
+import com.panda.salon_mgt_backend.repositories.SlotHoldRepository;
+import com.panda.salon_mgt_backend.repositories.WaitlistRepository;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Offers slots freed by cancellations to the waitlist.
+ * <p>
+ * Runs as an outbox subscriber, so matching happens off the cancel request. A freed slot is
+ * filled best-fit: the longest entry that fits (highest priority among equals) gets an offer,
+ * backed by a {@link SlotHold} for {@code waitlist.offer-hold-minutes}, then matching continues
+ * on the free gaps either side of it. Declined and expired offers release their hold and put
+ * their slot back through the same path.
+ * <p>
+ * Freed slots are only recorded in the caller's transaction (an outbox batch, the expiry sweep,
+ * a decline). Each is matched after that transaction commits, in its own short transaction that
+ * takes the staff lock once, so the lock is never held across a whole batch.
+ */
+@Slf4j
+@Component
+public class WaitlistMatcher implements BookingEventSubscriber {
+
+    // longest first; the sort is stable, so equal lengths keep the queue's priority order
+    private static final Comparator<WaitlistQueue.Match> BEST_FIT =
+            Comparator.comparing((WaitlistQueue.Match m) -> m.candidate().duration()).reversed();
+
+    private final WaitlistQueue waitlistQueue;
+    private final WaitlistRepository waitlistRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingViewRepository bookingViewRepository;
+    private final SlotHoldRepository slotHoldRepository;
+    private final SlotHolds slotHolds;
+    private final StaffBookingIndex staffBookingIndex;
+    private final StaffBookingLock staffBookingLock;
+    private final TransactionTemplate perSlot;
+    private final Duration holdFor;
+
+    public WaitlistMatcher(
+            WaitlistQueue waitlistQueue,
+            WaitlistRepository waitlistRepository,
+            BookingRepository bookingRepository,
+            BookingViewRepository bookingViewRepository,
+            SlotHoldRepository slotHoldRepository,
+            SlotHolds slotHolds,
+            StaffBookingIndex staffBookingIndex,
+            StaffBookingLock staffBookingLock,
+            PlatformTransactionManager transactionManager,
+            @Value("${waitlist.offer-hold-minutes:15}") long holdMinutes
+    ) {
+        this.waitlistQueue = waitlistQueue;
+        this.waitlistRepository = waitlistRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingViewRepository = bookingViewRepository;
+        this.slotHoldRepository = slotHoldRepository;
+        this.slotHolds = slotHolds;
+        this.staffBookingIndex = staffBookingIndex;
+        this.staffBookingLock = staffBookingLock;
+        // REQUIRES_NEW: matching runs from afterCommit callbacks, where the finished transaction is still bound
+        this.perSlot = new TransactionTemplate(transactionManager);
+        this.perSlot.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.holdFor = Duration.ofMinutes(holdMinutes);
+    }
+
+    @Override
+    public void onEvents(List<BookingLifecycleEvent> events) {
+        List<Long> cancelled = events.stream()
+                .filter(e -> e.type() == BookingEventType.CANCELLED)
+                .map(BookingLifecycleEvent::bookingId)
+                .toList();
+
+        if (cancelled.isEmpty()) {
+            return;
+        }
+        List<Gap> freed = bookingViewRepository.findAllById(cancelled)
+                .stream()
+                .map(view -> new Gap(view.getStaffId(), view.getStartTime(), view.getEndTime()))
+                .toList();
+        matchAfterCommit(freed);
+    }
+
+    /**
+     * Releases the hold of an offer that was declined or expired; its slot is offered to the next
+     * entries once the caller's transaction commits.
+     */
+    public void reoffer(WaitlistEntry entry) {
+        releaseHold(entry);
+        matchAfterCommit(List.of(new Gap(entry.getStaffId(), entry.getOfferedStart(), entry.getOfferedEnd())));
+    }
+
+    @Transactional
+    public int expireOffers() {
+        List<WaitlistEntry> expired = waitlistRepository
+                .findTop100ByStatusAndOfferExpiresAtBeforeOrderByOfferExpiresAtAsc(WaitlistStatus.OFFERED, Instant.now());
+
+        List<Gap> freed = new ArrayList<>(expired.size());
+        for (WaitlistEntry entry : expired) {
+            entry.setStatus(WaitlistStatus.EXPIRED);
+            log.info("waitlist.offer_expired entryId={} staffId={} start={}",
+                    entry.getId(), entry.getStaffId(), entry.getOfferedStart());
+
+            releaseHold(entry);
+            freed.add(new Gap(entry.getStaffId(), entry.getOfferedStart(), entry.getOfferedEnd()));
+        }
+        matchAfterCommit(freed);
+        return expired.size();
+    }
+
+    private void matchAfterCommit(List<Gap> freed) {
+        if (freed.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> freed.forEach(this::match));
+    }
+
+    // one slot per transaction; a failure loses only that slot's offers
+    private void match(Gap slot) {
+        try {
+            perSlot.executeWithoutResult(status -> offerSlot(slot));
+        } catch (RuntimeException ex) {
+            log.warn("waitlist.match_failed staffId={} start={}", slot.staffId(), slot.from(), ex);
+        }
+    }
+
+    /**
+     * Offers the free interval of a staff member to waiting entries, under the staff lock.
+     */
+    private void offerSlot(Gap slot) {
+        Long staffId = slot.staffId();
+        Instant now = Instant.now();
+        Instant from = slot.from().isBefore(now) ? now : slot.from();
+        Instant to = slot.to();
+
+        // most freed slots have no one waiting; skip the lock for them
+        if (!from.isBefore(to) || waitlistQueue.fits(staffId, from, to).isEmpty()) {
+            return;
+        }
+        staffBookingLock.lock(staffId);
+
+        Deque<Gap> gaps = new ArrayDeque<>();
+        gaps.push(new Gap(staffId, from, to));
+
+        while (!gaps.isEmpty()) {
+            Gap gap = gaps.pop();
+            if (!gap.from().isBefore(gap.to())) {
+                continue;
+            }
+
+            WaitlistQueue.Match offered = offerBestFit(staffId, gap.from(), gap.to(), now);
+            if (offered != null) {
+                // a window starting inside the gap leaves free time before the offer as well as after
+                gaps.push(new Gap(staffId, offered.end(), gap.to()));
+                gaps.push(new Gap(staffId, gap.from(), offered.start()));
+            }
+        }
+    }
+
+    private void releaseHold(WaitlistEntry entry) {
+        if (entry.getHoldId() != null) {
+            slotHoldRepository.findById(entry.getHoldId()).ifPresent(hold -> {
+                slotHoldRepository.delete(hold);
+                slotHolds.onReleased(hold);
+            });
+        }
+    }
+
+    private WaitlistQueue.Match offerBestFit(Long staffId, Instant from, Instant to, Instant now) {
+        List<WaitlistQueue.Match> matches = waitlistQueue.fits(staffId, from, to);
+        matches.sort(BEST_FIT);
+
+        for (WaitlistQueue.Match match : matches) {
+
+            // slot may have been rebooked or held since it was freed; the caller holds the staff lock
+            if (staffBookingIndex.hasConflict(staffId, match.start(), match.end())) {
+                continue;
+            }
+            if (!slotHolds.lockBlocking(staffId, match.start(), match.end()).isEmpty()
+                    || bookingRepository.existsOverlappingBooking(staffId, match.start(), match.end())) {
+                continue;
+            }
+
+            Instant expiresAt = now.plus(holdFor);
+            if (expiresAt.isAfter(match.start())) {
+                expiresAt = match.start();
+            }
+
+            SlotHold hold = slotHoldRepository.save(holdFor(staffId, match, now, expiresAt));
+            int updated = waitlistRepository.offer(
+                    match.candidate().entryId(), match.start(), match.end(), expiresAt, hold.getId()
+            );
+            waitlistQueue.onRemoved(staffId, match.candidate());
+
+            if (updated == 1) {
+                slotHolds.onPlaced(hold);
+                log.info("waitlist.offered entryId={} staffId={} start={} expiresAt={} holdId={}",
+                        match.candidate().entryId(), staffId, match.start(), expiresAt, hold.getId());
+                return match;
+            }
+            slotHoldRepository.delete(hold);
+        }
+        return null;
+    }
+
+    private static SlotHold holdFor(Long staffId, WaitlistQueue.Match match, Instant now, Instant expiresAt) {
+        WaitlistQueue.Candidate candidate = match.candidate();
+
+        SlotHold hold = new SlotHold();
+        hold.setSalonId(candidate.salonId());
+        hold.setStaffId(staffId);
+        hold.setServiceId(candidate.serviceId());
+        hold.setHolderId(candidate.customerId());
+        hold.setStartTime(match.start());
+        hold.setEndTime(match.end());
+        hold.setCreatedAt(now);
+        hold.setExpiresAt(expiresAt);
+        return hold;
+    }
+
+    private record Gap(Long staffId, Instant from, Instant to) {}
+}
@@ -0,0 +1,211 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.WaitlistEntry;
+import com.panda.salon_mgt_backend.models.WaitlistStatus;
+import com.panda.salon_mgt_backend.repositories.WaitlistRepository;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-staff, per-day priority queue of WAITING waitlist entries.
+ * <p>
+ * Entries are bucketed by the UTC date of their window start, so the queue needs no salon
+ * timezone; a window spans at most one salon-local day, which {@link #fits} covers by also
+ * scanning the buckets just before {@code from}. Days are loaded lazily from
+ * {@code idx_waitlist_staff_status_window}. Priority is the earliest request; ties go to the
+ * lower id. Mutations are applied after commit, and days reload after
+ * {@code waitlist.reload-after-seconds} to pick up entries written on other nodes.
+ */
+@Slf4j
+@Component
+public class WaitlistQueue {
+
+    // one salon-local day, plus an hour for DST; WaitlistServiceImpl rejects longer windows
+    private static final Duration MAX_WINDOW = Duration.ofHours(25);
+
+    private static final Comparator<Candidate> PRIORITY =
+            Comparator.comparing(Candidate::createdAt)
+                    .thenComparing(Candidate::entryId);
+
+    private final WaitlistRepository waitlistRepository;
+    private final Duration reloadAfter;
+    private final ConcurrentHashMap<DayKey, StaffQueue> queues = new ConcurrentHashMap<>();
+    // bumped by every committed join or removal; a day loaded across one is used once, not kept
+    private final AtomicLong writes = new AtomicLong();
+
+    public WaitlistQueue(
+            WaitlistRepository waitlistRepository,
+            @Value("${waitlist.reload-after-seconds:300}") long reloadAfterSeconds
+    ) {
+        this.waitlistRepository = waitlistRepository;
+        this.reloadAfter = Duration.ofSeconds(reloadAfterSeconds);
+    }
+
+    public record Candidate(
+            Long entryId,
+            Long salonId,
+            Long customerId,
+            Long serviceId,
+            Duration duration,
+            Instant windowStart,
+            Instant windowEnd,
+            Instant createdAt
+    ) {
+        static Candidate of(WaitlistEntry entry) {
+            return new Candidate(
+                    entry.getId(),
+                    entry.getSalonId(),
+                    entry.getCustomerId(),
+                    entry.getServiceId(),
+                    Duration.ofMinutes(entry.getDurationMinutes()),
+                    entry.getWindowStart(),
+                    entry.getWindowEnd(),
+                    entry.getCreatedAt()
+            );
+        }
+    }
+
+    /**
+     * A candidate placed at the earliest start that fits both its window and the free slot.
+     */
+    public record Match(Candidate candidate, Instant start, Instant end) {
+    }
+
+    /* ---------- Reads ---------- */
+
+    /**
+     * Entries that fit inside [from, to), in priority order. A linear scan of the staff-days
+     * whose windows can reach the slot.
+     */
+    public List<Match> fits(Long staffId, Instant from, Instant to) {
+        List<Match> matches = new ArrayList<>();
+        LocalDate last = dayOf(to.minusNanos(1));
+        for (LocalDate day = dayOf(from.minus(MAX_WINDOW)); !day.isAfter(last); day = day.plusDays(1)) {
+            matches.addAll(queue(staffId, day).fits(from, to));
+        }
+        matches.sort(Comparator.comparing(Match::candidate, PRIORITY));
+        return matches;
+    }
+
+    /* ---------- Writes (applied after commit) ---------- */
+
+    public void onJoined(WaitlistEntry entry) {
+        Candidate candidate = Candidate.of(entry);
+        DayKey key = new DayKey(entry.getStaffId(), dayOf(entry.getWindowStart()));
+        TransactionCallbacks.afterCommit(() -> {
+            writes.incrementAndGet();
+            StaffQueue queue = queues.get(key);
+            if (queue != null) {
+                queue.add(candidate);
+            }
+        });
+    }
+
+    public void onRemoved(WaitlistEntry entry) {
+        onRemoved(entry.getStaffId(), Candidate.of(entry));
+    }
+
+    public void onRemoved(Long staffId, Candidate candidate) {
+        DayKey key = new DayKey(staffId, dayOf(candidate.windowStart()));
+        TransactionCallbacks.afterCommit(() -> {
+            writes.incrementAndGet();
+            StaffQueue queue = queues.get(key);
+            if (queue != null) {
+                queue.remove(candidate);
+            }
+        });
+    }
+
+    @Scheduled(cron = "0 20 * * * *")
+    public void evictPastDays() {
+        // windows starting yesterday (UTC) can still be open today
+        LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        int before = queues.size();
+        queues.keySet().removeIf(k -> k.day().isBefore(yesterday));
+        log.debug("waitlist.queue.evicted count={}", before - queues.size());
+    }
+
+    /* ---------- Internals ---------- */
+
+    private StaffQueue queue(Long staffId, LocalDate day) {
+        DayKey key = new DayKey(staffId, day);
+        StaffQueue queue = queues.get(key);
+
+        if (queue == null || queue.isStale(reloadAfter)) {
+            long generation = writes.get();
+            StaffQueue loaded = load(key);
+            queues.put(key, loaded);
+            if (writes.get() != generation) {
+                queues.remove(key, loaded);
+            }
+            return loaded;
+        }
+        return queue;
+    }
+
+    private StaffQueue load(DayKey key) {
+        Instant from = key.day().atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant to = key.day().plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        StaffQueue queue = new StaffQueue();
+        waitlistRepository
+                .findByStaffIdAndStatusAndWindowStartGreaterThanEqualAndWindowStartLessThan(
+                        key.staffId(), WaitlistStatus.WAITING, from, to
+                )
+                .forEach(entry -> queue.add(Candidate.of(entry)));
+        return queue;
+    }
+
+    private static LocalDate dayOf(Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private record DayKey(Long staffId, LocalDate day) {}
+
+    private static final class StaffQueue {
+
+        private final NavigableSet<Candidate> candidates = new TreeSet<>(PRIORITY);
+        private final Instant loadedAt = Instant.now();
+
+        synchronized void add(Candidate candidate) {
+            candidates.add(candidate);
+        }
+
+        synchronized void remove(Candidate candidate) {
+            candidates.remove(candidate);
+        }
+
+        synchronized List<Match> fits(Instant from, Instant to) {
+            List<Match> matches = new ArrayList<>();
+            for (Candidate c : candidates) {
+                Instant start = c.windowStart().isAfter(from) ? c.windowStart() : from;
+                Instant end = start.plus(c.duration());
+                Instant limit = c.windowEnd().isBefore(to) ? c.windowEnd() : to;
+
+                if (!end.isAfter(limit)) {
+                    matches.add(new Match(c, start, end));
+                }
+            }
+            return matches;
+        }
+
+        boolean isStale(Duration reloadAfter) {
+            return loadedAt.plus(reloadAfter).isBefore(Instant.now());
+        }
+    }
+}
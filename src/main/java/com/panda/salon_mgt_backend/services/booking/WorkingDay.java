@@ -0,0 +1,81 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * Immutable working intervals of one staff member on one salon-local date, as sorted,
+ * disjoint [open, close) pairs of epoch seconds.
+ */
+public final class WorkingDay {
+
+    public static final WorkingDay CLOSED = new WorkingDay(new long[0]);
+
+    private final long[] bounds;
+
+    private WorkingDay(long[] bounds) {
+        this.bounds = bounds;
+    }
+
+    /**
+     * Resolves a compiled minute-of-day template against {@code date} in {@code zone}, so DST
+     * transitions land on the right instants.
+     */
+    static WorkingDay of(LocalDate date, ZoneId zone, int[] minutes) {
+        if (minutes.length == 0) {
+            return CLOSED;
+        }
+
+        long[] bounds = new long[minutes.length];
+        for (int i = 0; i < minutes.length; i++) {
+            bounds[i] = date.atTime(LocalTime.ofSecondOfDay(minutes[i] * 60L))
+                    .atZone(zone)
+                    .toEpochSecond();
+        }
+        return new WorkingDay(bounds);
+    }
+
+    public boolean isClosed() {
+        return bounds.length == 0;
+    }
+
+    public int intervalCount() {
+        return bounds.length / 2;
+    }
+
+    public Instant openAt(int interval) {
+        return Instant.ofEpochSecond(bounds[2 * interval]);
+    }
+
+    public Instant closeAt(int interval) {
+        return Instant.ofEpochSecond(bounds[2 * interval + 1]);
+    }
+
+    public Instant opensAt() {
+        return openAt(0);
+    }
+
+    public Instant closesAt() {
+        return closeAt(intervalCount() - 1);
+    }
+
+    /**
+     * True if [start, end) lies inside a single working interval.
+     */
+    public boolean covers(Instant start, Instant end) {
+        long from = start.getEpochSecond();
+        long to = end.getEpochSecond() + (end.getNano() > 0 ? 1 : 0);
+
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (from < bounds[i]) {
+                return false;
+            }
+            if (to <= bounds[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
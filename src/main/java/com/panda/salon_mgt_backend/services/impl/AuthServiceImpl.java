@@ -15,8 +15,13 @@ import com.panda.salon_mgt_backend.security.requests.UserLoginRequest;
 import com.panda.salon_mgt_backend.security.requests.UserRegisterRequest;
 import com.panda.salon_mgt_backend.security.responses.MessageResponse;
 import com.panda.salon_mgt_backend.security.services.CookieService;
+import com.panda.salon_mgt_backend.security.services.LoginAttemptLimiter;
+import com.panda.salon_mgt_backend.security.services.RevokedJtiFilter;
+import com.panda.salon_mgt_backend.security.services.TokenRevocations;
 import com.panda.salon_mgt_backend.security.services.UserDetailsImpl;
 import com.panda.salon_mgt_backend.services.AuthService;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,6 +39,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Arrays;
@@ -53,10 +59,16 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final CookieService cookieService;
     private final ModelMapper modelMapper;
+    private final TokenRevocations tokenRevocations;
+    private final RevokedJtiFilter revokedJtis;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     @Override
-    public ResponseEntity<MessageResponse> registerUser(UserRegisterRequest request) {
-        System.out.println("username: " + request.getUsername() + ", email: " + request.getEmail() + ", password: " + request.getPassword());
+    public ResponseEntity<MessageResponse> registerUser(UserRegisterRequest request, HttpServletRequest httpRequest) {
+        // throttle before anything reaches BCrypt
+        loginAttemptLimiter.checkAllowed(null, httpRequest.getRemoteAddr());
+        loginAttemptLimiter.onRegistration(httpRequest.getRemoteAddr());
+
         // validate if user with the same username or email already exists
         if (userRepository.existsByUserName(request.getUsername())) {
             return ResponseEntity.badRequest().body(new MessageResponse("Error: Username is already taken!"));
@@ -84,9 +96,19 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public TokenResponse loginUser(UserLoginRequest loginRequest, HttpServletResponse response) {
-        Authentication authentication = authenticationManager
-                .authenticate(new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+    public TokenResponse loginUser(UserLoginRequest loginRequest, HttpServletRequest request, HttpServletResponse response) {
+        // throttle before anything reaches BCrypt
+        loginAttemptLimiter.checkAllowed(loginRequest.getEmail(), request.getRemoteAddr());
+
+        Authentication authentication;
+        try {
+            authentication = authenticationManager
+                    .authenticate(new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
+        } catch (BadCredentialsException e) {
+            loginAttemptLimiter.onFailure(loginRequest.getEmail(), request.getRemoteAddr());
+            throw e;
+        }
+        loginAttemptLimiter.onSuccess(loginRequest.getEmail());
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -122,15 +144,19 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional
     public void logoutUser(HttpServletRequest request, HttpServletResponse response) {
         readRefreshTokenFromRequest(null, request).ifPresent(token -> {
             try {
-                if (jwtService.isRefreshToken(token)) {
-                    String jti = jwtService.getJti(token);
-                    refreshTokenRepository.findByJti(jti).ifPresent(rt -> {
-                        rt.setRevoked(true);
-                        refreshTokenRepository.save(rt);
-                    });
+                Claims claims = jwtService.parse(token).getPayload();
+                if ("refresh".equals(claims.get("typ", String.class))) {
+                    String jti = claims.getId();
+                    if (!knownRevoked(jti) && refreshTokenRepository.revoke(jti) == 1) {
+                        TransactionCallbacks.afterCommit(() -> revokedJtis.add(jti));
+                        // outstanding access tokens die too; other sessions re-issue via refresh
+                        userRepository.findByEmail(claims.getSubject())
+                                .ifPresent(tokenRevocations::revokeIssuedTokens);
+                    }
                 }
             } catch (JwtException ignored) {
             }
@@ -143,6 +169,7 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
+    @Transactional
     public TokenResponse refreshTokenService(
             RefreshTokenRequest body,
             HttpServletResponse response,
@@ -155,56 +182,48 @@ public class AuthServiceImpl implements AuthService {
                     return new RefreshTokenException("Refresh token is missing");
                 });
 
-        if (!jwtService.isRefreshToken(refreshToken)) {
+        Claims claims = jwtService.parse(refreshToken).getPayload();
+
+        if (!"refresh".equals(claims.get("typ", String.class))) {
             cookieService.clearRefreshCookie(response);
             throw new RefreshTokenException("Invalid refresh token type");
         }
-        String jti = jwtService.getJti(refreshToken);
-
-        RefreshToken storedRefreshToken = refreshTokenRepository
-                .findByJti(jti)
-                .orElseThrow(() -> {
-                    cookieService.clearRefreshCookie(response);
-                    return new RefreshTokenException("Refresh token not recognized");
-                });
-
-        Long userId = storedRefreshToken.getUser().getUserId();
+        String jti = claims.getId();
 
-        if (storedRefreshToken.isRevoked()) {
+        // replayed rotations are usually answered here without a lookup
+        if (knownRevoked(jti)) {
             cookieService.clearRefreshCookie(response);
             throw new RefreshTokenException("Refresh token revoked");
         }
 
-        if (storedRefreshToken.getExpiresAt().isBefore(Instant.now())) {
-            cookieService.clearRefreshCookie(response);
-            throw new RefreshTokenException("Refresh token expired");
-        }
-
-        if (!storedRefreshToken.getUser().getUserId().equals(userId)) {
-            cookieService.clearRefreshCookie(response);
-            throw new RefreshTokenException("Refresh token does not belong to this user");
-        }
-
-        // 🔁 ROTATE OLD TOKEN
-        storedRefreshToken.setRevoked(true);
-        String newJti = UUID.randomUUID().toString();
-        storedRefreshToken.setReplacedByToken(newJti);
-        refreshTokenRepository.save(storedRefreshToken);
-
         // 🔍 Load user WITH roles (fixes LazyInitialization)
         User user = userRepository
-                .findByIdWithRoles(userId)
+                .findByEmailWithRoles(claims.getSubject())
                 .orElseThrow(() -> {
                     cookieService.clearRefreshCookie(response);
                     return new RefreshTokenException("User not found");
                 });
 
+        if (!user.isEnabled()) {
+            cookieService.clearRefreshCookie(response);
+            throw new RefreshTokenException("User account is disabled");
+        }
+
+        // 🔁 ROTATE OLD TOKEN: one conditional update replaces lookup + checks + save
+        String newJti = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        if (refreshTokenRepository.rotate(jti, newJti, user, now) == 0) {
+            cookieService.clearRefreshCookie(response);
+            throw new RefreshTokenException(rotationFailure(jti, user, now));
+        }
+        TransactionCallbacks.afterCommit(() -> revokedJtis.add(jti));
+
         // 💾 Store new refresh token
         RefreshToken newRefreshTokenEntity = RefreshToken.builder()
                 .jti(newJti)
                 .user(user)
-                .createdAt(Instant.now())
-                .expiresAt(Instant.now().plusSeconds(jwtService.getRefreshTtlSeconds()))
+                .createdAt(now)
+                .expiresAt(now.plusSeconds(jwtService.getRefreshTtlSeconds()))
                 .revoked(false)
                 .build();
 
@@ -232,6 +251,29 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
+    // a filter hit is confirmed against the table, so false positives cost one lookup
+    private boolean knownRevoked(String jti) {
+        return revokedJtis.mightContain(jti)
+                && refreshTokenRepository.findByJti(jti).map(RefreshToken::isRevoked).orElse(true);
+    }
+
+    private String rotationFailure(String jti, User user, Instant now) {
+        return refreshTokenRepository.findByJti(jti)
+                .map(rt -> {
+                    if (rt.isRevoked()) {
+                        return "Refresh token revoked";
+                    }
+                    if (!rt.getExpiresAt().isAfter(now)) {
+                        return "Refresh token expired";
+                    }
+                    if (!rt.getUser().getUserId().equals(user.getUserId())) {
+                        return "Refresh token does not belong to this user";
+                    }
+                    return "Refresh token not recognized";
+                })
+                .orElse("Refresh token not recognized");
+    }
+
     //this method will read refresh token from request header or body.
     private Optional<String> readRefreshTokenFromRequest(RefreshTokenRequest body, HttpServletRequest request) {
         // 1. prefer reading refresh token from cookie
@@ -1,15 +1,22 @@
 package com.panda.salon_mgt_backend.services.impl;
 
-import com.panda.salon_mgt_backend.models.Booking;
 import com.panda.salon_mgt_backend.models.Services;
 import com.panda.salon_mgt_backend.models.User;
+import com.panda.salon_mgt_backend.payloads.StaffAvailabilityResponse;
 import com.panda.salon_mgt_backend.payloads.TimeSlot;
 import com.panda.salon_mgt_backend.repositories.BookingRepository;
 import com.panda.salon_mgt_backend.services.AvailabilityService;
+import com.panda.salon_mgt_backend.services.booking.BookingInterval;
+import com.panda.salon_mgt_backend.services.booking.HeldSlot;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendar;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendars;
+import com.panda.salon_mgt_backend.services.booking.SlotGrid;
+import com.panda.salon_mgt_backend.services.booking.SlotHolds;
+import com.panda.salon_mgt_backend.services.booking.StaffBookingIndex;
+import com.panda.salon_mgt_backend.services.booking.WorkingDay;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -19,7 +26,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AvailabilityServiceImpl implements AvailabilityService {
 
+    // one reusable grid per request thread keeps slot computation allocation-free
+    private static final ThreadLocal<SlotGrid> GRID = ThreadLocal.withInitial(SlotGrid::new);
+
+    private final StaffBookingIndex staffBookingIndex;
     private final BookingRepository bookingRepository;
+    private final SalonCalendars salonCalendars;
+    private final SlotHolds slotHolds;
 
     @Override
     public List<TimeSlot> getAvailableSlots(
@@ -27,50 +40,141 @@ public class AvailabilityServiceImpl implements AvailabilityService {
             Services service,
             LocalDate date
     ) {
-        ZoneId salonZone = ZoneId.of("Asia/Kolkata");
-
-        // Convert date to start/end of working day in salon timezone
-        Instant dayStart = date
-                .atTime(9, 0)
-                .atZone(salonZone)
-                .toInstant();
-
-        Instant dayEnd = date
-                .atTime(21, 0)
-                .atZone(salonZone)
-                .toInstant();
-
-        // Fetch existing bookings
-        List<Booking> bookings =
-                bookingRepository.findOverlappingBookings(
+        SalonCalendar calendar = salonCalendars.get(service.getSalon().getSalonId());
+        WorkingDay day = calendar.workingDay(staff.getUserId(), date);
+
+        if (day.isClosed()) {
+            return List.of();
+        }
+
+        // Existing bookings, sorted by start (served from the in-memory index)
+        List<BookingInterval> bookings =
+                staffBookingIndex.confirmedBetween(
                         staff.getUserId(),
-                        dayStart,
-                        dayEnd
+                        day.opensAt(),
+                        day.closesAt()
                 );
 
         List<TimeSlot> slots = new ArrayList<>();
-        Instant cursor = dayStart;
+        collectSlots(staff.getUserId(), bookings, 0, bookings.size(), date, day, calendar.zone(), durationTicks(service), slots);
+        return slots;
+    }
+
+    @Override
+    public List<StaffAvailabilityResponse> getAvailableSlots(
+            List<User> staff,
+            Services service,
+            LocalDate from,
+            LocalDate to
+    ) {
+        if (staff.isEmpty()) {
+            return List.of();
+        }
+
+        SalonCalendar calendar = salonCalendars.get(service.getSalon().getSalonId());
+        ZoneId zone = calendar.zone();
+
+        // One range query on idx_booking_staff_time, ordered by (staff, start)
+        List<BookingInterval> bookings =
+                bookingRepository.findConfirmedIntervalsForStaff(
+                        staff.stream().map(User::getUserId).toList(),
+                        from.atStartOfDay(zone).toInstant(),
+                        to.plusDays(1).atStartOfDay(zone).toInstant()
+                );
+
+        List<StaffAvailabilityResponse> result = new ArrayList<>();
+
+        // staff arrive ordered by id, like the bookings, so one cursor walks both lists
+        int next = 0;
+
+        for (User member : staff) {
+            Long staffId = member.getUserId();
+
+            int runStart = next;
+            while (runStart < bookings.size() && bookings.get(runStart).staffId() < staffId) {
+                runStart++;
+            }
+            int runEnd = runStart;
+            while (runEnd < bookings.size() && bookings.get(runEnd).staffId().equals(staffId)) {
+                runEnd++;
+            }
+            next = runEnd;
+
+            int durationTicks = durationTicks(service);
+            int cursor = runStart;
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                WorkingDay day = calendar.workingDay(staffId, date);
+                List<TimeSlot> slots = new ArrayList<>();
 
-        for (Booking b : bookings) {
+                if (!day.isClosed()) {
+                    // Skip bookings that finished before this day opened
+                    while (cursor < runEnd && !bookings.get(cursor).end().isAfter(day.opensAt())) {
+                        cursor++;
+                    }
 
-            if (cursor.isBefore(b.getStartTime())) {
-                slots.add(new TimeSlot(
-                        cursor.atZone(salonZone).toOffsetDateTime(),
-                        b.getStartTime().atZone(salonZone).toOffsetDateTime()
+                    collectSlots(staffId, bookings, cursor, runEnd, date, day, zone, durationTicks, slots);
+                }
+
+                result.add(new StaffAvailabilityResponse(
+                        staffId,
+                        member.getUserName(),
+                        date,
+                        slots
                 ));
             }
+        }
+
+        return result;
+    }
+
+    /**
+     * Emits the free runs of {@code day} that can hold {@code durationTicks}, given the bookings
+     * in {@code sorted[from, to)} ordered by start and the staff member's active slot holds.
+     * Every start in [slot.start, slot.end - duration] is bookable.
+     */
+    private void collectSlots(
+            Long staffId,
+            List<BookingInterval> sorted,
+            int from,
+            int to,
+            LocalDate date,
+            WorkingDay day,
+            ZoneId zone,
+            int durationTicks,
+            List<TimeSlot> out
+    ) {
+        SlotGrid grid = GRID.get().reset(date.atStartOfDay(zone).toInstant());
+        grid.restrictTo(day);
+
+        for (int i = from; i < to; i++) {
+            BookingInterval b = sorted.get(i);
+            if (!b.start().isBefore(day.closesAt())) {
+                break;
+            }
+            grid.markBusy(b.start(), b.end());
+        }
 
-            cursor = b.getEndTime();
+        for (HeldSlot hold : slotHolds.heldBetween(staffId, day.opensAt(), day.closesAt())) {
+            grid.markBusy(hold.start(), hold.end());
         }
 
-        if (cursor.isBefore(dayEnd)) {
-            slots.add(new TimeSlot(
-                    cursor.atZone(salonZone).toOffsetDateTime(),
-                    dayEnd.atZone(salonZone).toOffsetDateTime()
-            ));
+        int run = grid.nextFree(0);
+        while (run < SlotGrid.CAPACITY) {
+            int runEnd = grid.nextBusy(run);
+
+            if (runEnd - run >= durationTicks) {
+                out.add(new TimeSlot(
+                        grid.instantAt(run).atZone(zone).toOffsetDateTime(),
+                        grid.instantAt(runEnd).atZone(zone).toOffsetDateTime()
+                ));
+            }
+
+            run = grid.nextFree(runEnd);
         }
+    }
 
-        return slots;
+    private static int durationTicks(Services service) {
+        return SlotGrid.ticksFor(service.getDurationMinutes());
     }
 
 }
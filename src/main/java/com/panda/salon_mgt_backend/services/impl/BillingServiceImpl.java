@@ -12,6 +12,7 @@ import com.panda.salon_mgt_backend.repositories.SubscriptionRepository;
 import com.panda.salon_mgt_backend.services.BillingProvider;
 import com.panda.salon_mgt_backend.services.BillingService;
 import com.panda.salon_mgt_backend.utils.TenantContext;
+import com.panda.salon_mgt_backend.utils.subscription.EntitlementCache;
 import com.panda.salon_mgt_backend.utils.subscription.SubscriptionDurations;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +37,7 @@ public class BillingServiceImpl implements BillingService {
     private final SubscriptionRepository subscriptionRepository;
     private final PlanRepository planRepository;
     private final StripeWebhookEventRepository webhookRepo;
+    private final EntitlementCache entitlementCache;
 
     @Override
     @Transactional
@@ -121,6 +123,7 @@ public class BillingServiceImpl implements BillingService {
         sub.setDelinquent(false);
 
         subscriptionRepository.save(sub);
+        entitlementCache.evict(sub.getSalon().getSalonId());
 
         log.info("billing.renewal.recovered salonId={} stripeSub={}",
                 sub.getSalon().getSalonId(),
@@ -159,6 +162,7 @@ public class BillingServiceImpl implements BillingService {
         }
 
         subscriptionRepository.save(sub);
+        entitlementCache.evict(sub.getSalon().getSalonId());
 
         log.warn("billing.renewal.failed salonId={} retryCount={}",
                 sub.getSalon().getSalonId(),
@@ -257,6 +261,7 @@ public class BillingServiceImpl implements BillingService {
                 .build();
 
         subscriptionRepository.save(newSub);
+        entitlementCache.evict(salon.getSalonId());
     }
 
     @Transactional
@@ -289,6 +294,7 @@ public class BillingServiceImpl implements BillingService {
                 .build();
 
         subscriptionRepository.save(newSub);
+        entitlementCache.evict(salon.getSalonId());
     }
 
     private void persistWebhook(String eventId) {
@@ -375,6 +381,7 @@ public class BillingServiceImpl implements BillingService {
                 .build();
 
         subscriptionRepository.save(fallback);
+        entitlementCache.evict(sub.getSalon().getSalonId());
 
         log.warn("billing.subscription.force_expired salonId={} stripeSub={}",
                 sub.getSalon().getSalonId(),
@@ -4,10 +4,23 @@ import com.panda.salon_mgt_backend.exceptions.*;
 import com.panda.salon_mgt_backend.models.*;
 import com.panda.salon_mgt_backend.payloads.*;
 import com.panda.salon_mgt_backend.repositories.BookingRepository;
+import com.panda.salon_mgt_backend.repositories.BookingSpecifications;
+import com.panda.salon_mgt_backend.repositories.BookingViewRepository;
 import com.panda.salon_mgt_backend.repositories.ServicesRepository;
+import com.panda.salon_mgt_backend.repositories.SlotHoldRepository;
 import com.panda.salon_mgt_backend.repositories.UserRepository;
 import com.panda.salon_mgt_backend.services.AvailabilityService;
 import com.panda.salon_mgt_backend.services.BookingService;
+import com.panda.salon_mgt_backend.services.booking.BookingCursor;
+import com.panda.salon_mgt_backend.services.booking.BookingInterval;
+import com.panda.salon_mgt_backend.services.booking.BookingOutbox;
+import com.panda.salon_mgt_backend.services.booking.BookingViewProjector;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendar;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendars;
+import com.panda.salon_mgt_backend.services.booking.SalonDashboardCache;
+import com.panda.salon_mgt_backend.services.booking.SlotHolds;
+import com.panda.salon_mgt_backend.services.booking.StaffBookingIndex;
+import com.panda.salon_mgt_backend.services.booking.StaffBookingLock;
 import com.panda.salon_mgt_backend.utils.TenantContext;
 import com.panda.salon_mgt_backend.utils.TenantGuard;
 import com.panda.salon_mgt_backend.utils.subscription.PlanGuard;
@@ -17,15 +30,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static com.panda.salon_mgt_backend.models.BookingStatus.COMPLETED;
@@ -35,6 +51,16 @@ import static com.panda.salon_mgt_backend.models.BookingStatus.COMPLETED;
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final int MAX_AVAILABILITY_DAYS = 14;
+    private static final int MAX_BULK_BOOKINGS = 52;
+    private static final int MAX_RECURRING_INTERVAL_DAYS = 365;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Sort KEYSET_SORT = Sort.by(
+            Sort.Order.desc("startTime"),
+            Sort.Order.desc("bookingId")
+    );
+
     private final BookingRepository bookingRepository;
     private final ServicesRepository servicesRepository;
     private final UserRepository userRepository;
@@ -42,6 +68,15 @@ public class BookingServiceImpl implements BookingService {
     private final TenantGuard tenantGuard;
     private final TenantContext tenantContext;
     private final PlanGuard planGuard;
+    private final StaffBookingIndex staffBookingIndex;
+    private final StaffBookingLock staffBookingLock;
+    private final BookingViewRepository bookingViewRepository;
+    private final BookingViewProjector bookingViewProjector;
+    private final SalonDashboardCache salonDashboardCache;
+    private final BookingOutbox bookingOutbox;
+    private final SalonCalendars salonCalendars;
+    private final SlotHoldRepository slotHoldRepository;
+    private final SlotHolds slotHolds;
 
     private void assertTransitionAllowed(
             BookingStatus from,
@@ -67,7 +102,7 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
-    private User resolveCustomer(CreateBookingRequest req, Authentication auth) {
+    private User resolveCustomer(Long customerId, Authentication auth) {
 
         User authenticatedUser = tenantContext.getCurrentUser(auth);
 
@@ -83,12 +118,12 @@ public class BookingServiceImpl implements BookingService {
 
         if (isAdmin) {
 
-            if (req.customerId() == null) {
+            if (customerId == null) {
                 throw new CanNotException("Customer must be selected");
             }
 
             User customer = userRepository
-                    .findByIdWithRoles(req.customerId())
+                    .findByIdWithRoles(customerId)
                     .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
 
             if (!customer.isEnabled()) {
@@ -105,24 +140,21 @@ public class BookingServiceImpl implements BookingService {
         throw new CanNotException("Not allowed to create booking");
     }
 
-    @Transactional
-    @Override
-    public BookingResponse createBooking(CreateBookingRequest req,
-                                         Authentication auth) {
-
-        User customer = resolveCustomer(req, auth);
-
+    private Services resolveBookableService(Long serviceId, Authentication auth) {
         Services service = servicesRepository
-                .findById(req.serviceId())
+                .findById(serviceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service not found"));
         tenantGuard.assertServiceBelongsToTenant(service, auth);
 
         if (!service.isActive()) {
             throw new InactiveException("Service is inactive");
         }
+        return service;
+    }
 
+    private User resolveBookableStaff(Long staffId, Services service, Authentication auth) {
         User staff = userRepository
-                .findById(req.staffId())
+                .findById(staffId)
                 .orElseThrow(() -> new ResourceNotFoundException("Staff not found"));
         tenantGuard.assertStaffBelongsToTenant(staff, auth);
 
@@ -133,6 +165,29 @@ public class BookingServiceImpl implements BookingService {
         if (!service.getStaff().contains(staff)) {
             throw new CanNotException("Staff not assigned to service");
         }
+        return staff;
+    }
+
+    private Booking newConfirmedBooking(Salon salon, Services service, User staff, User customer, Instant start) {
+        Booking booking = new Booking();
+        booking.setSalon(salon);
+        booking.setService(service);
+        booking.setStaff(staff);
+        booking.setCustomer(customer);
+        booking.setStartTime(start);
+        booking.setEndTime(start.plusSeconds(service.getDurationMinutes() * 60L));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        return booking;
+    }
+
+    @Transactional
+    @Override
+    public BookingResponse createBooking(CreateBookingRequest req,
+                                         Authentication auth) {
+
+        User customer = resolveCustomer(req.customerId(), auth);
+        Services service = resolveBookableService(req.serviceId(), auth);
+        User staff = resolveBookableStaff(req.staffId(), service, auth);
 
         Instant start = req.startTime();
         Instant end = start.plusSeconds(service.getDurationMinutes()*60L);
@@ -141,27 +196,255 @@ public class BookingServiceImpl implements BookingService {
             throw new CanNotException("Cannot book in the past");
         }
 
-        List<Booking> conflicts =
-                bookingRepository.findOverlappingBookings(
-                        staff.getUserId(),
-                        start,
-                        end
-                );
+        if (req.holdId() != null) {
+            // the hold was checked under the staff lock when placed; no one else can book it
+            consumeHold(req.holdId(), customer, staff, service, start, end, auth);
+        } else {
+            if (!salonCalendars.get(service.getSalon().getSalonId()).covers(staff.getUserId(), start, end)) {
+                throw new CanNotException("Staff is not working at this time");
+            }
 
-        if (!conflicts.isEmpty()) {
-            throw new AlreadyExistsException("Staff already booked for this time");
+            // index hits are confirmed in the database, so only real conflicts skip the lock
+            if (staffBookingIndex.hasConflict(staff.getUserId(), start, end)) {
+                throw new AlreadyExistsException("Staff already booked for this time");
+            }
+
+            // serialize writes for this staff member until commit, then re-check authoritatively
+            staffBookingLock.lock(staff.getUserId());
+
+            if (!slotHolds.lockBlocking(staff.getUserId(), start, end).isEmpty()) {
+                throw new AlreadyExistsException("Slot is held by another customer");
+            }
+            if (bookingRepository.existsOverlappingBooking(staff.getUserId(), start, end)) {
+                throw new AlreadyExistsException("Staff already booked for this time");
+            }
         }
 
-        Booking booking = new Booking();
-        booking.setSalon(tenantContext.getSalon(auth)); // 🔥 better than getMySalonEntity
-        booking.setService(service);
-        booking.setStaff(staff);
-        booking.setCustomer(customer);        // 🔥 required
-        booking.setStartTime(start);
-        booking.setEndTime(end);
-        booking.setStatus(BookingStatus.CONFIRMED);
+        Booking booking = newConfirmedBooking(
+                tenantContext.getSalon(auth), // 🔥 better than getMySalonEntity
+                service,
+                staff,
+                customer,
+                start
+        );
+
+        Booking saved = bookingRepository.save(booking);
+        bookingViewProjector.onCreated(saved);
+        bookingOutbox.append(BookingEventType.CREATED, saved);
+        staffBookingIndex.onConfirmed(staff.getUserId(), toInterval(saved));
+        salonDashboardCache.evict(saved.getSalon().getSalonId());
+
+        return toResponse(saved);
+    }
+
+    @Transactional
+    @Override
+    public List<BookingResponse> createRecurringBookings(RecurringBookingRequest req,
+                                                         Authentication auth) {
+
+        int occurrences = req.occurrences() != null ? req.occurrences() : 1;
+        int intervalDays = req.intervalDays() != null ? req.intervalDays() : 7;
+
+        if (req.startTime() == null || intervalDays < 1 || intervalDays > MAX_RECURRING_INTERVAL_DAYS) {
+            throw new CanNotException(
+                    "Start time and an interval of 1 to " + MAX_RECURRING_INTERVAL_DAYS + " days are required"
+            );
+        }
+        // bounded before the series is built, not only in createBulkBookings
+        if (occurrences < 1 || occurrences > MAX_BULK_BOOKINGS) {
+            throw new CanNotException("Between 1 and " + MAX_BULK_BOOKINGS + " occurrences are allowed");
+        }
+
+        List<Instant> startTimes = new ArrayList<>(occurrences);
+        for (int i = 0; i < occurrences; i++) {
+            startTimes.add(req.startTime().plus(Duration.ofDays((long) i * intervalDays)));
+        }
+
+        return createBulkBookings(
+                new BulkBookingRequest(req.serviceId(), req.staffId(), req.customerId(), startTimes),
+                auth
+        );
+    }
+
+    @Transactional
+    @Override
+    public List<BookingResponse> createBulkBookings(BulkBookingRequest req,
+                                                    Authentication auth) {
+
+        List<Instant> startTimes = req.startTimes() == null ? List.of() : req.startTimes();
+
+        if (startTimes.isEmpty() || startTimes.size() > MAX_BULK_BOOKINGS) {
+            throw new CanNotException("Between 1 and " + MAX_BULK_BOOKINGS + " occurrences are allowed");
+        }
+
+        // Tenant, service and staff checks run once for the whole series
+        User customer = resolveCustomer(req.customerId(), auth);
+        Services service = resolveBookableService(req.serviceId(), auth);
+        User staff = resolveBookableStaff(req.staffId(), service, auth);
+        Salon salon = tenantContext.getSalon(auth);
+
+        SalonCalendar calendar = salonCalendars.get(salon.getSalonId());
+
+        Instant now = Instant.now();
+        List<Booking> bookings = startTimes.stream()
+                .sorted()
+                .map(start -> newConfirmedBooking(salon, service, staff, customer, start))
+                .toList();
+
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking b = bookings.get(i);
+
+            if (b.getStartTime().isBefore(now)) {
+                throw new CanNotException("Cannot book in the past");
+            }
+            if (i > 0 && bookings.get(i - 1).getEndTime().isAfter(b.getStartTime())) {
+                throw new CanNotException("Occurrences overlap each other");
+            }
+            if (!calendar.covers(staff.getUserId(), b.getStartTime(), b.getEndTime())) {
+                throw new CanNotException("Staff is not working at " + b.getStartTime());
+            }
+        }
+
+        Instant first = bookings.get(0).getStartTime();
+        Instant last = bookings.get(bookings.size() - 1).getEndTime();
+
+        staffBookingLock.lock(staff.getUserId());
+
+        // One range query for every occurrence, then a merge over two sorted lists
+        List<BookingInterval> existing =
+                bookingRepository.findConfirmedIntervalsForStaff(List.of(staff.getUserId()), first, last);
+        List<SlotHold> holds = slotHolds.lockBlocking(staff.getUserId(), first, last);
+
+        int cursor = 0;
+        for (Booking b : bookings) {
+            while (cursor < existing.size() && !existing.get(cursor).end().isAfter(b.getStartTime())) {
+                cursor++;
+            }
+            for (int j = cursor; j < existing.size() && existing.get(j).start().isBefore(b.getEndTime()); j++) {
+                if (existing.get(j).overlaps(b.getStartTime(), b.getEndTime())) {
+                    throw new AlreadyExistsException("Staff already booked at " + b.getStartTime());
+                }
+            }
+            for (SlotHold hold : holds) {
+                if (hold.getStartTime().isBefore(b.getEndTime()) && hold.getEndTime().isAfter(b.getStartTime())) {
+                    throw new AlreadyExistsException("Slot is held by another customer at " + b.getStartTime());
+                }
+            }
+        }
+
+        // pooled sequence ids let Hibernate send these as one JDBC batch
+        List<Booking> saved = bookingRepository.saveAll(bookings);
+        bookingViewProjector.onCreated(saved);
+        bookingOutbox.append(BookingEventType.CREATED, saved);
+        saved.forEach(b -> staffBookingIndex.onConfirmed(staff.getUserId(), toInterval(b)));
+        salonDashboardCache.evict(salon.getSalonId());
+
+        log.info("booking.bulk_created salonId={} staffId={} count={}",
+                salon.getSalonId(), staff.getUserId(), saved.size());
+
+        return saved.stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    @Override
+    public SlotHoldResponse holdSlot(SlotHoldRequest req, Authentication auth) {
+
+        User holder = tenantContext.getCurrentUser(auth);
+        Services service = resolveBookableService(req.serviceId(), auth);
+        User staff = resolveBookableStaff(req.staffId(), service, auth);
+
+        if (req.startTime() == null) {
+            throw new CanNotException("Start time is required");
+        }
+
+        Instant now = Instant.now();
+        Instant start = req.startTime();
+        Instant end = start.plusSeconds(service.getDurationMinutes() * 60L);
+
+        if (start.isBefore(now)) {
+            throw new CanNotException("Cannot hold a slot in the past");
+        }
+        if (!salonCalendars.get(service.getSalon().getSalonId()).covers(staff.getUserId(), start, end)) {
+            throw new CanNotException("Staff is not working at this time");
+        }
+        if (slotHoldRepository.countActiveByHolder(holder.getUserId(), now) >= slotHolds.maxPerHolder()) {
+            throw new CanNotException("Too many active holds; confirm or release one first");
+        }
+
+        // reject confirmed conflicts before queueing on the staff lock
+        if (staffBookingIndex.hasConflict(staff.getUserId(), start, end)) {
+            throw new AlreadyExistsException("Slot is no longer available");
+        }
+
+        staffBookingLock.lock(staff.getUserId());
+
+        if (!slotHolds.lockBlocking(staff.getUserId(), start, end).isEmpty()
+                || bookingRepository.existsOverlappingBooking(staff.getUserId(), start, end)) {
+            throw new AlreadyExistsException("Slot is no longer available");
+        }
+
+        SlotHold hold = new SlotHold();
+        hold.setSalonId(service.getSalon().getSalonId());
+        hold.setStaffId(staff.getUserId());
+        hold.setServiceId(service.getServiceId());
+        hold.setHolderId(holder.getUserId());
+        hold.setStartTime(start);
+        hold.setEndTime(end);
+        hold.setCreatedAt(now);
+        hold.setExpiresAt(slotHolds.expiryFor(now, start));
+
+        SlotHold saved = slotHoldRepository.save(hold);
+        slotHolds.onPlaced(saved);
+
+        log.info("booking.hold_placed holdId={} staffId={} start={} expiresAt={}",
+                saved.getId(), staff.getUserId(), start, saved.getExpiresAt());
+
+        return SlotHoldResponse.from(saved);
+    }
+
+    @Transactional
+    @Override
+    public void releaseHold(Long holdId, Authentication auth) {
+        SlotHold hold = slotHoldRepository.findById(holdId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold not found"));
+
+        if (!hold.getHolderId().equals(tenantContext.getCurrentUser(auth).getUserId())) {
+            throw new CanNotException("Not your hold");
+        }
+
+        slotHoldRepository.delete(hold);
+        slotHolds.onReleased(hold);
+    }
 
-        return toResponse(bookingRepository.save(booking));
+    /**
+     * Consumes a hold of the caller or of the booking's customer (a waitlist offer accepted by
+     * an admin) for exactly this booking. The delete row-locks the hold until commit, so writers
+     * checking overlapping holds wait for this booking instead of racing it.
+     */
+    private void consumeHold(Long holdId, User customer, User staff, Services service, Instant start, Instant end,
+                             Authentication auth) {
+        SlotHold hold = slotHoldRepository.findById(holdId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold not found"));
+
+        if (!hold.getHolderId().equals(customer.getUserId())
+                && !hold.getHolderId().equals(tenantContext.getCurrentUser(auth).getUserId())) {
+            throw new CanNotException("Not your hold");
+        }
+
+        if (!hold.getStaffId().equals(staff.getUserId())
+                || !hold.getServiceId().equals(service.getServiceId())
+                || !hold.getStartTime().equals(start)
+                || !hold.getEndTime().equals(end)) {
+            throw new CanNotException("Hold does not match this booking");
+        }
+
+        if (slotHoldRepository.deleteActive(holdId, Instant.now()) == 0) {
+            throw new CanNotException("Hold has expired");
+        }
+
+        slotHolds.onReleased(hold);
     }
 
     @Override
@@ -172,15 +455,16 @@ public class BookingServiceImpl implements BookingService {
 
         tenantGuard.assertStaffBelongsToTenant(staff, auth);
 
-        return bookingRepository
-                .findByStaffUserIdAndStartTimeBetweenOrderByStartTimeAsc(
-                        staffId,
-                        date.atStartOfDay(),
-                        date.plusDays(1).atStartOfDay()
-                )
-                .stream()
-                .map(this::toResponse)
-                .toList();
+        ZoneId zone = ZoneId.systemDefault();
+
+        return BookingViewProjector.toResponses(
+                bookingViewRepository
+                        .findByStaffIdAndStartTimeGreaterThanEqualAndStartTimeLessThanOrderByStartTimeAsc(
+                                staffId,
+                                date.atStartOfDay(zone).toInstant(),
+                                date.plusDays(1).atStartOfDay(zone).toInstant()
+                        )
+        );
     }
 
     @Override
@@ -205,105 +489,120 @@ public class BookingServiceImpl implements BookingService {
                 Sort.by(Sort.Direction.DESC, "startTime")
         );
 
-        /* ---------- Time boundaries ---------- */
+        // page and count both run on booking_view; no bookings rows or associations are read
+        Page<BookingView> views = bookingViewRepository.findAll(
+                listSpecification(status, search, range, from, to, auth),
+                pageable
+        );
 
-        Instant now = Instant.now();
-        ZoneId zone = ZoneId.systemDefault();
+        return new PageResponse<>(
+                BookingViewProjector.toResponses(views.getContent()),
+                views.getNumber(),
+                views.getSize(),
+                views.getTotalElements(),
+                views.getTotalPages()
+        );
+    }
 
-        Instant fromInstant = null;
-        Instant toInstant = null;
-        if (from != null) {
-            fromInstant = from.atStartOfDay(zone).toInstant();
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<BookingResponse> getBookingsByCursor(
+            int size,
+            BookingStatus status,
+            String search,
+            BookingRange range,
+            LocalDate from,
+            LocalDate to,
+            String cursor,
+            Authentication auth
+    ) {
+        if (search != null && search.isBlank()) {
+            search = null;
         }
 
-        if (to != null) {
-            toInstant = to.plusDays(1).atStartOfDay(zone).toInstant();
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        Specification<BookingView> spec = listSpecification(status, search, range, from, to, auth);
+
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(BookingSpecifications.after(BookingCursor.decode(cursor)));
         }
-        boolean hasFrom = fromInstant != null;
-        boolean hasTo = toInstant != null;
 
-        Instant startOfToday = LocalDate.now(zone)
-                .atStartOfDay(zone)
-                .toInstant();
+        // fetch one extra row to learn whether a next page exists, without a count query
+        List<BookingView> rows = bookingViewRepository.findBy(spec, q -> q
+                .sortBy(KEYSET_SORT)
+                .limit(limit + 1)
+                .all()
+        );
 
-        Instant endOfToday = LocalDate.now(zone)
-                .plusDays(1)
-                .atStartOfDay(zone)
-                .toInstant();
+        boolean hasNext = rows.size() > limit;
+        List<BookingView> pageRows = hasNext ? rows.subList(0, limit) : rows;
 
-        /* ---------- Convert RANGE → FLAGS ---------- */
+        String nextCursor = hasNext
+                ? BookingCursor.after(pageRows.get(pageRows.size() - 1)).encode()
+                : null;
 
-        boolean today = range == BookingRange.TODAY;
-        boolean upcoming = range == BookingRange.UPCOMING;
-        boolean past = range == BookingRange.PAST;
+        return PageResponse.keyset(
+                BookingViewProjector.toResponses(pageRows),
+                limit,
+                nextCursor
+        );
+    }
+
+    /**
+     * Role-scoped list filter containing only the predicates the request actually uses.
+     */
+    private Specification<BookingView> listSpecification(
+            BookingStatus status,
+            String search,
+            BookingRange range,
+            LocalDate from,
+            LocalDate to,
+            Authentication auth
+    ) {
+        Instant now = Instant.now();
+        ZoneId zone = ZoneId.systemDefault();
 
         User user = tenantContext.getCurrentUser(auth);
-        Page<Booking> bookingsPage;
+        List<Specification<BookingView>> filters = new ArrayList<>();
 
-        /* ---------- SALON ADMIN ---------- */
         if (user.hasRole("ROLE_SALON_ADMIN")) {
-            Salon salon = tenantContext.getSalon(auth);
-
-            bookingsPage = (search == null)
-                    ? bookingRepository.findAdminBookingsNoSearch(
-                    salon, status,
-                    today, upcoming, past,
-                    now, startOfToday, endOfToday, hasFrom, fromInstant,
-                    hasTo, toInstant, pageable
-            )
-                    : bookingRepository.findAdminBookingsWithSearch(
-                    salon, status, search,
-                    today, upcoming, past,
-                    now, startOfToday, endOfToday, hasFrom, fromInstant,
-                    hasTo, toInstant, pageable
-            );
-        }
+            filters.add(BookingSpecifications.inSalon(tenantContext.getSalon(auth).getSalonId()));
 
-        /* ---------- STAFF ---------- */
+            if (from != null) {
+                filters.add(BookingSpecifications.startsAtOrAfter(from.atStartOfDay(zone).toInstant()));
+            }
+            if (to != null) {
+                filters.add(BookingSpecifications.startsBefore(to.plusDays(1).atStartOfDay(zone).toInstant()));
+            }
+        }
         else if (user.hasRole("ROLE_STAFF")) {
-
-            bookingsPage = (search == null)
-                    ? bookingRepository.findStaffBookingsNoSearch(
-                    user, status,
-                    today, upcoming, past,
-                    now, startOfToday, endOfToday,
-                    pageable
-            )
-                    : bookingRepository.findStaffBookingsWithSearch(
-                    user, status, search,
-                    today, upcoming, past,
-                    now, startOfToday, endOfToday,
-                    pageable
-            );
+            filters.add(BookingSpecifications.forStaff(user.getUserId()));
         }
-
-        /* ---------- CUSTOMER ---------- */
         else {
+            filters.add(BookingSpecifications.forCustomer(user.getUserId()));
+        }
 
-            bookingsPage = (search == null)
-                    ? bookingRepository.findUserBookingsNoSearch(
-                    user, status,
-                    today, upcoming, past,
-                    now, startOfToday, endOfToday,
-                    pageable
-            )
-                    : bookingRepository.findUserBookingsWithSearch(
-                    user, status, search,
-                    today, upcoming, past,
-                    now, startOfToday, endOfToday,
-                    pageable
-            );
+        if (status != null) {
+            filters.add(BookingSpecifications.hasStatus(status));
         }
 
-        Page<BookingResponse> mapped = bookingsPage.map(this::toResponse);
+        if (range != null) {
+            filters.add(switch (range) {
+                case TODAY -> BookingSpecifications.startsBetween(
+                        LocalDate.now(zone).atStartOfDay(zone).toInstant(),
+                        LocalDate.now(zone).plusDays(1).atStartOfDay(zone).toInstant()
+                );
+                case UPCOMING -> BookingSpecifications.startsAfter(now);
+                case PAST -> BookingSpecifications.startsBefore(now);
+            });
+        }
 
-        return new PageResponse<>(
-                mapped.getContent(),
-                mapped.getNumber(),
-                mapped.getSize(),
-                mapped.getTotalElements(),
-                mapped.getTotalPages()
-        );
+        if (search != null) {
+            filters.add(BookingSpecifications.matchesSearch(search));
+        }
+
+        return Specification.allOf(filters);
     }
 
     @Override
@@ -339,6 +638,43 @@ public class BookingServiceImpl implements BookingService {
         return availabilityService.getAvailableSlots(staff, service, date);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<StaffAvailabilityResponse> getServiceAvailability(
+            Long serviceId,
+            LocalDate from,
+            LocalDate to,
+            Authentication auth
+    ) {
+        if (to == null) {
+            to = from.plusDays(6);
+        }
+
+        if (to.isBefore(from)) {
+            throw new CanNotException("'to' must not be before 'from'");
+        }
+
+        if (from.plusDays(MAX_AVAILABILITY_DAYS).isBefore(to.plusDays(1))) {
+            throw new CanNotException("Availability range is limited to " + MAX_AVAILABILITY_DAYS + " days");
+        }
+
+        Services service = servicesRepository.findById(serviceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Service not found"));
+        tenantGuard.assertServiceBelongsToTenant(service, auth);
+
+        if (!service.isActive()) {
+            throw new IllegalStateException("Service is inactive");
+        }
+
+        List<User> eligibleStaff = service.getStaff()
+                .stream()
+                .filter(User::isEnabled)
+                .sorted(Comparator.comparing(User::getUserId))
+                .toList();
+
+        return availabilityService.getAvailableSlots(eligibleStaff, service, from, to);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<BookingResponse> getTodayBookings(Authentication auth) {
@@ -358,30 +694,30 @@ public class BookingServiceImpl implements BookingService {
                 .atStartOfDay(zone)
                 .toInstant();
 
-        return bookingRepository
-                .findBySalonSalonIdAndStartTimeBetweenOrderByStartTimeDesc(
-                        salon.getSalonId(),
-                        startOfDay,
-                        endOfDay
-                )
-                .stream()
-                .map(this::toResponse)
-                .toList();
+        return BookingViewProjector.toResponses(
+                bookingViewRepository
+                        .findBySalonIdAndStartTimeGreaterThanEqualAndStartTimeLessThanOrderByStartTimeDesc(
+                                salon.getSalonId(),
+                                startOfDay,
+                                endOfDay
+                        )
+        );
     }
 
     @Override
     public List<BookingResponse> getUpcomingTenantBookings(Authentication auth) {
         Salon salon = tenantContext.getSalon(auth);
 
-        return bookingRepository
-                .findBySalonSalonIdAndStartTimeBetween(
-                        salon.getSalonId(),
-                        LocalDateTime.now().minusDays(1),
-                        LocalDateTime.now().plusDays(30)
-                )
-                .stream()
-                .map(this::toResponse)
-                .toList();
+        Instant now = Instant.now();
+
+        return BookingViewProjector.toResponses(
+                bookingViewRepository
+                        .findBySalonIdAndStartTimeGreaterThanEqualAndStartTimeLessThanOrderByStartTimeDesc(
+                                salon.getSalonId(),
+                                now.minus(Duration.ofDays(1)),
+                                now.plus(Duration.ofDays(30))
+                        )
+        );
     }
 
     @Transactional
@@ -395,6 +731,9 @@ public class BookingServiceImpl implements BookingService {
         );
 
         booking.setStatus(BookingStatus.CANCELLED);
+        bookingViewProjector.onStatusChanged(booking);
+        bookingOutbox.append(BookingEventType.CANCELLED, booking);
+        releaseSlot(booking);
         return toResponse(booking);
     }
 
@@ -409,6 +748,9 @@ public class BookingServiceImpl implements BookingService {
         booking.setCompletedAt(Instant.now());
 
         validateCompletedBooking(booking);
+        bookingViewProjector.onStatusChanged(booking);
+        bookingOutbox.append(BookingEventType.COMPLETED, booking);
+        releaseSlot(booking);
 
         return toResponse(booking);
     }
@@ -433,6 +775,9 @@ public class BookingServiceImpl implements BookingService {
         );
 
         booking.setStatus(BookingStatus.NO_SHOW);
+        bookingViewProjector.onStatusChanged(booking);
+        bookingOutbox.append(BookingEventType.NO_SHOW, booking);
+        releaseSlot(booking);
         return toResponse(booking);
     }
 
@@ -493,6 +838,20 @@ public class BookingServiceImpl implements BookingService {
         return booking;
     }
 
+    private void releaseSlot(Booking booking) {
+        staffBookingIndex.onReleased(booking.getStaff().getUserId(), toInterval(booking));
+        salonDashboardCache.evict(booking.getSalon().getSalonId());
+    }
+
+    private BookingInterval toInterval(Booking booking) {
+        return new BookingInterval(
+                booking.getId(),
+                booking.getStaff().getUserId(),
+                booking.getStartTime(),
+                booking.getEndTime()
+        );
+    }
+
     private BookingResponse toResponse(Booking booking) {
         return new BookingResponse(
                 booking.getId(),
@@ -522,19 +881,10 @@ public class BookingServiceImpl implements BookingService {
 
         Salon salon = tenantContext.getSalon(auth);
 
-        long totalBookings = bookingRepository.countBySalon(salon);
-
-        long completed = bookingRepository
-                .countBySalonAndStatus(salon, BookingStatus.COMPLETED);
-
-        long cancelled = bookingRepository
-                .countBySalonAndStatus(salon, BookingStatus.CANCELLED);
-
-        long noShow = bookingRepository
-                .countBySalonAndStatus(salon, BookingStatus.NO_SHOW);
+        return salonDashboardCache.get(salon.getSalonId(), () -> loadAdminDashboard(salon.getSalonId()));
+    }
 
-        long confirmed = bookingRepository
-                .countBySalonAndStatus(salon, BookingStatus.CONFIRMED);
+    private AdminDashboardResponse loadAdminDashboard(Long salonId) {
 
         // Today
         Instant startOfToday = LocalDate.now()
@@ -546,34 +896,24 @@ public class BookingServiceImpl implements BookingService {
                 .atStartOfDay(ZoneId.systemDefault())
                 .toInstant();
 
-        long todayBookings = bookingRepository
-                .countBookingsBetween(salon, startOfToday, endOfToday);
-
-        Double revenue = bookingRepository.calculateTotalRevenue(salon);
-
-        long activeServices =
-                servicesRepository.countBySalonAndActiveTrue(salon);
-
-        long staffCount =
-                userRepository.countStaffBySalon(salon);
+        BookingViewRepository.DashboardAggregate totals =
+                bookingViewRepository.aggregateDashboard(salonId, startOfToday, endOfToday);
 
         List<BookingResponse> recentBookings =
-                bookingRepository
-                        .findTop5BySalonOrderByStartTimeDesc(salon)
-                        .stream()
-                        .map(this::toResponse)
-                        .toList();
+                BookingViewProjector.toResponses(
+                        bookingViewRepository.findTop5BySalonIdOrderByStartTimeDesc(salonId)
+                );
 
         return new AdminDashboardResponse(
-                totalBookings,
-                todayBookings,
-                confirmed,
-                completed,
-                cancelled,
-                noShow,
-                revenue != null ? revenue : 0.0,
-                activeServices,
-                staffCount,
+                totals.getTotalBookings(),
+                totals.getTodayBookings(),
+                totals.getConfirmedBookings(),
+                totals.getCompletedBookings(),
+                totals.getCancelledBookings(),
+                totals.getNoShowBookings(),
+                totals.getTotalRevenue().doubleValue(),
+                totals.getActiveServices(),
+                totals.getStaffCount(),
                 recentBookings
         );
     }
@@ -9,6 +9,7 @@ import com.panda.salon_mgt_backend.repositories.PlanRepository;
 import com.panda.salon_mgt_backend.repositories.RoleRepository;
 import com.panda.salon_mgt_backend.repositories.SalonRepository;
 import com.panda.salon_mgt_backend.repositories.SubscriptionRepository;
+import com.panda.salon_mgt_backend.security.services.TokenRevocations;
 import com.panda.salon_mgt_backend.services.SalonService;
 import com.panda.salon_mgt_backend.services.UserService;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class SalonServiceImpl implements SalonService {
     private final UserService userService;
     private final PlanRepository planRepository;
     private final SubscriptionRepository subscriptionRepository;
+    private final TokenRevocations tokenRevocations;
 
     @Override
     @Transactional
@@ -51,6 +53,8 @@ public class SalonServiceImpl implements SalonService {
         Role salonAdminRole = roleRepository.findByRoleName(AppRole.ROLE_SALON_ADMIN)
                 .orElseThrow(() -> new ResourceNotFoundException("ROLE_SALON_ADMIN not found"));
         user.getRoles().add(salonAdminRole);
+        // current access token lacks the new role and salonId; force a refresh
+        tokenRevocations.revokeIssuedTokens(user);
 
         // 2️⃣ Assign FREE plan by default
         Plan freePlan = planRepository.findByType(PlanType.FREE)
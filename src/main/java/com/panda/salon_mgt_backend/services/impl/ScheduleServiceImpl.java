@@ -0,0 +1,237 @@
+package com.panda.salon_mgt_backend.services.impl;
+
+import com.panda.salon_mgt_backend.exceptions.AlreadyExistsException;
+import com.panda.salon_mgt_backend.exceptions.CanNotException;
+import com.panda.salon_mgt_backend.exceptions.ResourceNotFoundException;
+import com.panda.salon_mgt_backend.models.*;
+import com.panda.salon_mgt_backend.payloads.*;
+import com.panda.salon_mgt_backend.repositories.SalonHolidayRepository;
+import com.panda.salon_mgt_backend.repositories.SalonOpeningHoursRepository;
+import com.panda.salon_mgt_backend.repositories.SalonRepository;
+import com.panda.salon_mgt_backend.repositories.StaffScheduleRepository;
+import com.panda.salon_mgt_backend.repositories.UserRepository;
+import com.panda.salon_mgt_backend.services.ScheduleService;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendars;
+import com.panda.salon_mgt_backend.utils.TenantContext;
+import com.panda.salon_mgt_backend.utils.TenantGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ScheduleServiceImpl implements ScheduleService {
+
+    private static final Comparator<WeeklyTimeRange> BY_DAY_AND_START =
+            Comparator.comparing(WeeklyTimeRange::day)
+                    .thenComparing(WeeklyTimeRange::start);
+
+    private final SalonRepository salonRepository;
+    private final SalonOpeningHoursRepository openingHoursRepository;
+    private final SalonHolidayRepository holidayRepository;
+    private final StaffScheduleRepository staffScheduleRepository;
+    private final UserRepository userRepository;
+    private final TenantContext tenantContext;
+    private final TenantGuard tenantGuard;
+    private final SalonCalendars salonCalendars;
+
+    /* ---------- Salon ---------- */
+
+    @Override
+    @Transactional(readOnly = true)
+    public SalonScheduleResponse getSalonSchedule(Authentication auth) {
+        return toResponse(tenantContext.getSalon(auth));
+    }
+
+    @Override
+    public SalonScheduleResponse updateSalonSchedule(SalonScheduleRequest request, Authentication auth) {
+        Salon salon = tenantContext.getSalon(auth);
+
+        if (request.timezone() != null) {
+            try {
+                salon.setTimezone(ZoneId.of(request.timezone()).getId());
+            } catch (DateTimeException ex) {
+                throw new CanNotException("Unknown timezone: " + request.timezone());
+            }
+            salonRepository.save(salon);
+        }
+
+        if (request.openingHours() != null) {
+            List<WeeklyTimeRange> hours = validated(request.openingHours());
+
+            openingHoursRepository.deleteBySalonId(salon.getSalonId());
+            openingHoursRepository.saveAll(hours.stream()
+                    .map(h -> {
+                        SalonOpeningHours row = new SalonOpeningHours();
+                        row.setSalonId(salon.getSalonId());
+                        row.setDayOfWeek(h.day());
+                        row.setOpensAt(h.start());
+                        row.setClosesAt(h.end());
+                        return row;
+                    })
+                    .toList());
+        }
+
+        salonCalendars.evict(salon.getSalonId());
+        log.info("schedule.salon_updated salonId={} timezone={}", salon.getSalonId(), salon.getTimezone());
+
+        return toResponse(salon);
+    }
+
+    @Override
+    public SalonScheduleResponse addHoliday(SalonHolidayDto request, Authentication auth) {
+        Salon salon = tenantContext.getSalon(auth);
+
+        if (request.date() == null) {
+            throw new CanNotException("Holiday date is required");
+        }
+
+        if (holidayRepository.existsBySalonIdAndHolidayDate(salon.getSalonId(), request.date())) {
+            throw new AlreadyExistsException("Holiday already exists for " + request.date());
+        }
+
+        SalonHoliday holiday = new SalonHoliday();
+        holiday.setSalonId(salon.getSalonId());
+        holiday.setHolidayDate(request.date());
+        holiday.setLabel(request.label());
+        holidayRepository.save(holiday);
+
+        salonCalendars.evict(salon.getSalonId());
+        return toResponse(salon);
+    }
+
+    @Override
+    public SalonScheduleResponse removeHoliday(LocalDate date, Authentication auth) {
+        Salon salon = tenantContext.getSalon(auth);
+
+        if (holidayRepository.deleteBySalonIdAndHolidayDate(salon.getSalonId(), date) == 0) {
+            throw new ResourceNotFoundException("Holiday not found");
+        }
+
+        salonCalendars.evict(salon.getSalonId());
+        return toResponse(salon);
+    }
+
+    /* ---------- Staff ---------- */
+
+    @Override
+    @Transactional(readOnly = true)
+    public StaffScheduleResponse getStaffSchedule(Long staffId, Authentication auth) {
+        User staff = resolveStaff(staffId, auth);
+        return toResponse(staff.getUserId());
+    }
+
+    @Override
+    public StaffScheduleResponse updateStaffSchedule(
+            Long staffId,
+            StaffScheduleRequest request,
+            Authentication auth
+    ) {
+        User staff = resolveStaff(staffId, auth);
+        Long salonId = staff.getStaffSalon().getSalonId();
+
+        List<WeeklyTimeRange> shifts = validated(request.shifts() == null ? List.of() : request.shifts());
+        List<WeeklyTimeRange> breaks = validated(request.breaks() == null ? List.of() : request.breaks());
+
+        staffScheduleRepository.deleteByStaffId(staffId);
+        staffScheduleRepository.saveAll(
+                Stream.concat(
+                        shifts.stream().map(r -> toEntry(salonId, staffId, StaffScheduleKind.SHIFT, r)),
+                        breaks.stream().map(r -> toEntry(salonId, staffId, StaffScheduleKind.BREAK, r))
+                ).toList()
+        );
+
+        salonCalendars.evict(salonId);
+        log.info("schedule.staff_updated salonId={} staffId={} shifts={} breaks={}",
+                salonId, staffId, shifts.size(), breaks.size());
+
+        return toResponse(staffId);
+    }
+
+    /* ---------- Helpers ---------- */
+
+    private User resolveStaff(Long staffId, Authentication auth) {
+        User staff = userRepository.findById(staffId)
+                .orElseThrow(() -> new ResourceNotFoundException("Staff not found"));
+        tenantGuard.assertStaffBelongsToTenant(staff, auth);
+        return staff;
+    }
+
+    private static List<WeeklyTimeRange> validated(List<WeeklyTimeRange> ranges) {
+        for (WeeklyTimeRange r : ranges) {
+            if (r.day() == null || r.start() == null || r.end() == null) {
+                throw new CanNotException("Day, start and end are required");
+            }
+            if (!r.start().isBefore(r.end())) {
+                throw new CanNotException("Start must be before end on " + r.day());
+            }
+        }
+        return ranges;
+    }
+
+    private static StaffScheduleEntry toEntry(
+            Long salonId,
+            Long staffId,
+            StaffScheduleKind kind,
+            WeeklyTimeRange range
+    ) {
+        StaffScheduleEntry entry = new StaffScheduleEntry();
+        entry.setSalonId(salonId);
+        entry.setStaffId(staffId);
+        entry.setKind(kind);
+        entry.setDayOfWeek(range.day());
+        entry.setStartsAt(range.start());
+        entry.setEndsAt(range.end());
+        return entry;
+    }
+
+    private SalonScheduleResponse toResponse(Salon salon) {
+        ZoneId zone = salonCalendars.zoneOf(salon);
+
+        List<WeeklyTimeRange> hours = openingHoursRepository.findBySalonId(salon.getSalonId())
+                .stream()
+                .map(h -> new WeeklyTimeRange(h.getDayOfWeek(), h.getOpensAt(), h.getClosesAt()))
+                .sorted(BY_DAY_AND_START)
+                .toList();
+
+        List<SalonHolidayDto> holidays = holidayRepository
+                .findBySalonIdAndHolidayDateGreaterThanEqualOrderByHolidayDateAsc(
+                        salon.getSalonId(),
+                        LocalDate.now(zone)
+                )
+                .stream()
+                .map(h -> new SalonHolidayDto(h.getHolidayDate(), h.getLabel()))
+                .toList();
+
+        return new SalonScheduleResponse(zone.getId(), hours, holidays);
+    }
+
+    private StaffScheduleResponse toResponse(Long staffId) {
+        List<StaffScheduleEntry> entries = staffScheduleRepository.findByStaffId(staffId);
+
+        return new StaffScheduleResponse(
+                staffId,
+                ranges(entries, StaffScheduleKind.SHIFT),
+                ranges(entries, StaffScheduleKind.BREAK)
+        );
+    }
+
+    private static List<WeeklyTimeRange> ranges(List<StaffScheduleEntry> entries, StaffScheduleKind kind) {
+        return entries.stream()
+                .filter(e -> e.getKind() == kind)
+                .map(e -> new WeeklyTimeRange(e.getDayOfWeek(), e.getStartsAt(), e.getEndsAt()))
+                .sorted(BY_DAY_AND_START)
+                .toList();
+    }
+}
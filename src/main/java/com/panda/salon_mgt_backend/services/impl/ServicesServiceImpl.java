@@ -14,6 +14,9 @@ import com.panda.salon_mgt_backend.repositories.SalonRepository;
 import com.panda.salon_mgt_backend.repositories.ServicesRepository;
 import com.panda.salon_mgt_backend.repositories.UserRepository;
 import com.panda.salon_mgt_backend.services.ServicesService;
+import com.panda.salon_mgt_backend.services.analytics.SalonLeaderboards;
+import com.panda.salon_mgt_backend.services.booking.BookingViewProjector;
+import com.panda.salon_mgt_backend.services.booking.SalonDashboardCache;
 import com.panda.salon_mgt_backend.utils.TenantContext;
 import com.panda.salon_mgt_backend.utils.TenantGuard;
 import com.panda.salon_mgt_backend.utils.subscription.PlanGuard;
@@ -32,6 +35,9 @@ import java.util.stream.Collectors;
 public class ServicesServiceImpl implements ServicesService {
 
     private final ServicesRepository servicesRepository;
+    private final BookingViewProjector bookingViewProjector;
+    private final SalonDashboardCache salonDashboardCache;
+    private final SalonLeaderboards salonLeaderboards;
     private final UserRepository userRepository;
     private final SalonRepository salonRepository;
     private final TenantContext tenantContext;
@@ -76,6 +82,7 @@ public class ServicesServiceImpl implements ServicesService {
 
         // 4. Persist
         Services saved = servicesRepository.save(service);
+        salonDashboardCache.evict(salon.getSalonId());
 
         // 5. Map to response
         return new ServiceResponse(
@@ -101,8 +108,9 @@ public class ServicesServiceImpl implements ServicesService {
                         new ResourceNotFoundException("Service not found")
                 );
 
-        if (!service.getServiceName().equals(request.name())
-                && servicesRepository.existsBySalonAndServiceName(salon, request.name())) {
+        boolean renamed = !service.getServiceName().equals(request.name());
+
+        if (renamed && servicesRepository.existsBySalonAndServiceName(salon, request.name())) {
             throw new AlreadyExistsException("Service with this name already exists");
         }
 
@@ -111,7 +119,13 @@ public class ServicesServiceImpl implements ServicesService {
         service.setDurationMinutes(request.durationMinutes());
         service.setActive(request.active());
 
-        Services saved = servicesRepository.save(service);
+        Services saved = servicesRepository.saveAndFlush(service);
+
+        if (renamed) {
+            bookingViewProjector.onServiceRenamed(saved.getServiceId(), saved.getServiceName());
+            salonLeaderboards.onServiceRenamed(salon.getSalonId(), saved.getServiceId(), saved.getServiceName());
+        }
+        salonDashboardCache.evict(salon.getSalonId());
         return toResponse(saved);
     }
 
@@ -189,6 +203,7 @@ public class ServicesServiceImpl implements ServicesService {
 
         // 5️⃣ Deactivate (entity is managed → auto-persist)
         service.setActive(false);
+        salonDashboardCache.evict(salon.getSalonId());
 
         return toResponse(service);
     }
@@ -215,6 +230,7 @@ public class ServicesServiceImpl implements ServicesService {
 
         service.setActive(true);
         Services saved = servicesRepository.save(service);
+        salonDashboardCache.evict(salon.getSalonId());
 
         return toResponse(saved);
     }
@@ -8,11 +8,14 @@ import com.panda.salon_mgt_backend.payloads.AssignServicesRequest;
 import com.panda.salon_mgt_backend.payloads.ServiceResponse;
 import com.panda.salon_mgt_backend.payloads.StaffCreateRequest;
 import com.panda.salon_mgt_backend.payloads.StaffResponse;
+import com.panda.salon_mgt_backend.repositories.RefreshTokenRepository;
 import com.panda.salon_mgt_backend.repositories.RoleRepository;
 import com.panda.salon_mgt_backend.repositories.ServicesRepository;
 import com.panda.salon_mgt_backend.repositories.UserRepository;
+import com.panda.salon_mgt_backend.security.services.TokenRevocations;
 import com.panda.salon_mgt_backend.services.SalonService;
 import com.panda.salon_mgt_backend.services.StaffService;
+import com.panda.salon_mgt_backend.services.booking.SalonDashboardCache;
 import com.panda.salon_mgt_backend.utils.TenantContext;
 import com.panda.salon_mgt_backend.utils.TenantGuard;
 import com.panda.salon_mgt_backend.utils.subscription.PlanGuard;
@@ -39,6 +42,9 @@ public class StaffServiceImpl implements StaffService {
     private final TenantContext tenantContext;
     private final TenantGuard tenantGuard;
     private final PlanGuard planGuard;
+    private final SalonDashboardCache salonDashboardCache;
+    private final TokenRevocations tokenRevocations;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -81,6 +87,7 @@ public class StaffServiceImpl implements StaffService {
         planGuard.assertStaffLimit(auth, count);
 
         User saved = userRepository.save(staff);
+        salonDashboardCache.evict(salon.getSalonId());
 
         return map(saved);
     }
@@ -99,6 +106,8 @@ public class StaffServiceImpl implements StaffService {
 
         // 1️⃣ deactivate staff
         staff.setEnabled(false);
+        tokenRevocations.revokeIssuedTokens(staff);
+        refreshTokenRepository.revokeAllFor(staff);
 
         // 2️⃣ 🔥 auto-unassign from all services
         staff.getServices().clear();
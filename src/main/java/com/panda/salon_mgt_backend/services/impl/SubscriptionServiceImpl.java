@@ -11,6 +11,7 @@ import com.panda.salon_mgt_backend.services.BillingProvider;
 import com.panda.salon_mgt_backend.services.BillingService;
 import com.panda.salon_mgt_backend.services.SubscriptionService;
 import com.panda.salon_mgt_backend.utils.TenantContext;
+import com.panda.salon_mgt_backend.utils.subscription.EntitlementCache;
 import com.panda.salon_mgt_backend.utils.subscription.SubscriptionPolicy;
 import com.panda.salon_mgt_backend.utils.subscription.TrialPolicy;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +38,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
     private final BillingService billingService;
     private final BillingProvider billingProvider;
     private final BillingTransactionRepository billingRepo;
+    private final EntitlementCache entitlementCache;
 
     @Override
     public Subscription getCurrentSubscription(Authentication auth) {
@@ -116,6 +118,7 @@ public class SubscriptionServiceImpl implements SubscriptionService {
                 .endDate(now.plus(TrialPolicy.TRIAL_DURATION))
                 .build();
 
+        entitlementCache.evict(salon.getSalonId());
         return subscriptionRepository.save(trial);
     }
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.panda.salon_mgt_backend.services.impl;
+
+import com.panda.salon_mgt_backend.exceptions.CanNotException;
+import com.panda.salon_mgt_backend.exceptions.InactiveException;
+import com.panda.salon_mgt_backend.exceptions.ResourceNotFoundException;
+import com.panda.salon_mgt_backend.models.*;
+import com.panda.salon_mgt_backend.payloads.BookingResponse;
+import com.panda.salon_mgt_backend.payloads.CreateBookingRequest;
+import com.panda.salon_mgt_backend.payloads.WaitlistEntryResponse;
+import com.panda.salon_mgt_backend.payloads.WaitlistJoinRequest;
+import com.panda.salon_mgt_backend.repositories.ServicesRepository;
+import com.panda.salon_mgt_backend.repositories.UserRepository;
+import com.panda.salon_mgt_backend.repositories.WaitlistRepository;
+import com.panda.salon_mgt_backend.services.BookingService;
+import com.panda.salon_mgt_backend.services.WaitlistService;
+import com.panda.salon_mgt_backend.services.booking.SalonCalendars;
+import com.panda.salon_mgt_backend.services.booking.WaitlistMatcher;
+import com.panda.salon_mgt_backend.services.booking.WaitlistQueue;
+import com.panda.salon_mgt_backend.utils.TenantContext;
+import com.panda.salon_mgt_backend.utils.TenantGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final WaitlistRepository waitlistRepository;
+    private final ServicesRepository servicesRepository;
+    private final UserRepository userRepository;
+    private final BookingService bookingService;
+    private final WaitlistQueue waitlistQueue;
+    private final WaitlistMatcher waitlistMatcher;
+    private final SalonCalendars salonCalendars;
+    private final TenantContext tenantContext;
+    private final TenantGuard tenantGuard;
+
+    @Transactional
+    @Override
+    public WaitlistEntryResponse join(WaitlistJoinRequest req, Authentication auth) {
+
+        User customer = resolveCustomer(req.customerId(), auth);
+
+        Services service = servicesRepository
+                .findById(req.serviceId())
+                .orElseThrow(() -> new ResourceNotFoundException("Service not found"));
+        tenantGuard.assertServiceBelongsToTenant(service, auth);
+        if (!service.isActive()) {
+            throw new InactiveException("Service is inactive");
+        }
+
+        User staff = userRepository
+                .findById(req.staffId())
+                .orElseThrow(() -> new ResourceNotFoundException("Staff not found"));
+        tenantGuard.assertStaffBelongsToTenant(staff, auth);
+        if (!service.getStaff().contains(staff)) {
+            throw new CanNotException("Staff not assigned to service");
+        }
+
+        validateWindow(
+                req.windowStart(),
+                req.windowEnd(),
+                service.getDurationMinutes(),
+                salonCalendars.zone(service.getSalon().getSalonId())
+        );
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setSalonId(service.getSalon().getSalonId());
+        entry.setCustomerId(customer.getUserId());
+        entry.setStaffId(staff.getUserId());
+        entry.setServiceId(service.getServiceId());
+        entry.setDurationMinutes(service.getDurationMinutes());
+        entry.setWindowStart(req.windowStart());
+        entry.setWindowEnd(req.windowEnd());
+        entry.setCreatedAt(Instant.now());
+        entry.setStatus(WaitlistStatus.WAITING);
+
+        WaitlistEntry saved = waitlistRepository.save(entry);
+        waitlistQueue.onJoined(saved);
+
+        log.info("waitlist.joined entryId={} staffId={} windowStart={}",
+                saved.getId(), saved.getStaffId(), saved.getWindowStart());
+
+        return WaitlistEntryResponse.from(saved);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<WaitlistEntryResponse> getEntries(Authentication auth) {
+        User user = tenantContext.getCurrentUser(auth);
+
+        List<WaitlistEntry> entries = user.hasRole("ROLE_SALON_ADMIN")
+                ? waitlistRepository.findBySalonIdAndStatusInOrderByCreatedAtAsc(
+                        tenantContext.getSalonId(auth),
+                        EnumSet.of(WaitlistStatus.WAITING, WaitlistStatus.OFFERED)
+                )
+                : waitlistRepository.findByCustomerIdOrderByCreatedAtDesc(user.getUserId());
+
+        return entries.stream()
+                .map(WaitlistEntryResponse::from)
+                .toList();
+    }
+
+    @Transactional
+    @Override
+    public BookingResponse acceptOffer(Long entryId, Authentication auth) {
+        WaitlistEntry entry = getOwnedEntry(entryId, auth);
+
+        if (entry.getStatus() != WaitlistStatus.OFFERED) {
+            throw new CanNotException("No open offer for this waitlist entry");
+        }
+        if (!entry.getOfferExpiresAt().isAfter(Instant.now())) {
+            throw new CanNotException("Offer has expired");
+        }
+
+        BookingResponse booking = bookingService.createBooking(
+                new CreateBookingRequest(
+                        entry.getServiceId(),
+                        entry.getStaffId(),
+                        entry.getCustomerId(),
+                        entry.getOfferedStart(),
+                        entry.getHoldId()
+                ),
+                auth
+        );
+
+        entry.setStatus(WaitlistStatus.ACCEPTED);
+        entry.setBookingId(booking.id());
+
+        log.info("waitlist.accepted entryId={} bookingId={}", entry.getId(), booking.id());
+        return booking;
+    }
+
+    @Transactional
+    @Override
+    public WaitlistEntryResponse leave(Long entryId, Authentication auth) {
+        WaitlistEntry entry = getOwnedEntry(entryId, auth);
+        WaitlistStatus previous = entry.getStatus();
+
+        if (previous != WaitlistStatus.WAITING && previous != WaitlistStatus.OFFERED) {
+            return WaitlistEntryResponse.from(entry);
+        }
+
+        entry.setStatus(WaitlistStatus.CANCELLED);
+
+        if (previous == WaitlistStatus.WAITING) {
+            waitlistQueue.onRemoved(entry);
+        } else {
+            // declined offer: release the hold and pass the slot on to the next entry
+            waitlistMatcher.reoffer(entry);
+        }
+
+        return WaitlistEntryResponse.from(entry);
+    }
+
+    private WaitlistEntry getOwnedEntry(Long entryId, Authentication auth) {
+        WaitlistEntry entry = waitlistRepository
+                .findById(entryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Waitlist entry not found"));
+
+        User user = tenantContext.getCurrentUser(auth);
+
+        if (user.hasRole("ROLE_SALON_ADMIN")) {
+            tenantGuard.assertSameSalon(entry.getSalonId(), auth);
+        } else if (!entry.getCustomerId().equals(user.getUserId())) {
+            throw new CanNotException("Not your waitlist entry");
+        }
+        return entry;
+    }
+
+    private User resolveCustomer(Long customerId, Authentication auth) {
+        User user = tenantContext.getCurrentUser(auth);
+
+        if (!user.hasRole("ROLE_SALON_ADMIN")) {
+            return user;
+        }
+        if (customerId == null) {
+            throw new CanNotException("Customer must be selected");
+        }
+
+        User customer = userRepository
+                .findByIdWithRoles(customerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Customer not found"));
+
+        if (!customer.isEnabled()) {
+            throw new InactiveException("Customer is disabled");
+        }
+        if (!customer.hasRole("ROLE_USER")) {
+            throw new CanNotException("Invalid customer role");
+        }
+        return customer;
+    }
+
+    private void validateWindow(Instant start, Instant end, int durationMinutes, ZoneId zone) {
+        if (start == null || end == null) {
+            throw new CanNotException("Waitlist window is required");
+        }
+        if (!end.isAfter(Instant.now())) {
+            throw new CanNotException("Waitlist window is in the past");
+        }
+        if (start.plusSeconds(durationMinutes * 60L).isAfter(end)) {
+            throw new CanNotException("Waitlist window is shorter than the service");
+        }
+
+        LocalDate startDay = LocalDate.ofInstant(start, zone);
+        LocalDate endDay = LocalDate.ofInstant(end.minusNanos(1), zone);
+        if (!startDay.equals(endDay)) {
+            throw new CanNotException("Waitlist window must be within one day");
+        }
+    }
+}
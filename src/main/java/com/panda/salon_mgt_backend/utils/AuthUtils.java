@@ -15,7 +15,7 @@ public class AuthUtils {
 
     public User getCurrentUser(Authentication auth) {
         String username = auth.getName(); // usually email or username
-        return userRepository.findByEmail(username)
+        return userRepository.findByEmailWithTenant(username)
                 .orElseThrow(() -> new CanNotException("User not found"));
     }
 }
@@ -1,10 +1,8 @@
 package com.panda.salon_mgt_backend.utils;
 
-import com.panda.salon_mgt_backend.exceptions.CanNotException;
 import com.panda.salon_mgt_backend.exceptions.ResourceNotFoundException;
 import com.panda.salon_mgt_backend.models.Salon;
 import com.panda.salon_mgt_backend.models.User;
-import com.panda.salon_mgt_backend.repositories.SalonRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -15,8 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TenantContext {
 
-    private final AuthUtils authUtils;
-    private final SalonRepository salonRepository;
+    private final TenantScope tenantScope;
 
     /**
      * Returns the salon entity for the current tenant.
@@ -24,19 +21,7 @@ public class TenantContext {
      */
     @Transactional(readOnly = true)
     public Salon getSalon(Authentication auth) {
-        User user = authUtils.getCurrentUser(auth);
-
-        // SALON ADMIN → owns salon
-        if (user.getSalon() != null) {
-            return user.getSalon();
-        }
-
-        // STAFF → belongs to salon
-        if (user.getStaffSalon() != null) {
-            return user.getStaffSalon();
-        }
-
-        throw new CanNotException("No tenant associated with this user");
+        return tenantScope.salon(auth);
     }
 
     /**
@@ -51,12 +36,12 @@ public class TenantContext {
      * Useful for guards later
      */
     public boolean isSalonAdmin(Authentication auth) {
-        User user = authUtils.getCurrentUser(auth);
+        User user = tenantScope.user(auth);
         return user.getSalon() != null;
     }
 
     public User getCurrentUser(Authentication auth) {
-        return authUtils.getCurrentUser(auth);
+        return tenantScope.user(auth);
     }
 
     @Transactional(readOnly = true)
@@ -52,7 +52,7 @@ public class TenantGuard {
 
     public void assertBookingInTenant(Booking booking, Authentication auth) {
         Salon salon = tenantContext.getSalon(auth);
-        if (!booking.getSalon().equals(salon)) {
+        if (!booking.getSalon().getSalonId().equals(salon.getSalonId())) {
             throw new CanNotException("Not your salon booking");
         }
     }
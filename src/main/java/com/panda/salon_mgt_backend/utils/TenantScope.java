@@ -0,0 +1,80 @@
+package com.panda.salon_mgt_backend.utils;
+
+import com.panda.salon_mgt_backend.exceptions.CanNotException;
+import com.panda.salon_mgt_backend.models.Salon;
+import com.panda.salon_mgt_backend.models.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Resolves the caller's user (with roles and salon) and tenant salon at most once per HTTP
+ * request.
+ * <p>
+ * Results live in a request attribute, keyed by principal, so {@link TenantContext},
+ * {@link TenantGuard} and services share one lookup instead of going back to
+ * the database on every call. Outside a request (scheduled jobs, outbox delivery) nothing is
+ * cached and every call resolves afresh.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantScope {
+
+    private static final String ATTRIBUTE = TenantScope.class.getName();
+
+    private final AuthUtils authUtils;
+
+    public User user(Authentication auth) {
+        Resolved resolved = resolved(auth);
+
+        if (resolved == null) {
+            return authUtils.getCurrentUser(auth);
+        }
+        if (resolved.user == null) {
+            resolved.user = authUtils.getCurrentUser(auth);
+        }
+        return resolved.user;
+    }
+
+    /**
+     * The owned salon for a salon admin, the assigned salon for staff.
+     */
+    public Salon salon(Authentication auth) {
+        User user = user(auth);
+
+        if (user.getSalon() != null) {
+            return user.getSalon();
+        }
+        if (user.getStaffSalon() != null) {
+            return user.getStaffSalon();
+        }
+
+        throw new CanNotException("No tenant associated with this user");
+    }
+
+    private Resolved resolved(Authentication auth) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+
+        Resolved resolved = (Resolved) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (resolved == null || !resolved.principal.equals(auth.getName())) {
+            resolved = new Resolved(auth.getName());
+            attributes.setAttribute(ATTRIBUTE, resolved, RequestAttributes.SCOPE_REQUEST);
+        }
+        return resolved;
+    }
+
+    private static final class Resolved {
+        private final String principal;
+        private User user;
+
+        private Resolved(String principal) {
+            this.principal = principal;
+        }
+    }
+}
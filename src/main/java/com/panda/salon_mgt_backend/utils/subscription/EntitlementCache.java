@@ -0,0 +1,73 @@
+package com.panda.salon_mgt_backend.utils.subscription;
+
+import com.panda.salon_mgt_backend.repositories.SubscriptionRepository;
+import com.panda.salon_mgt_backend.utils.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.panda.salon_mgt_backend.models.SubscriptionStatus.*;
+
+/**
+ * Per-salon {@link Entitlements} of the latest TRIAL, ACTIVE or GRACE subscription.
+ * <p>
+ * Billing activations, renewals, failures, cancellations and the expiry job evict the salon's
+ * entry after commit. Entries also expire after a TTL, which bounds staleness from transitions
+ * committed on other nodes.
+ */
+@Component
+public class EntitlementCache {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final Duration ttl;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // bumped by every eviction; a load that raced one is returned but not cached
+    private final AtomicLong evictions = new AtomicLong();
+
+    public EntitlementCache(
+            SubscriptionRepository subscriptionRepository,
+            @Value("${billing.entitlements.cache-ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public Entitlements get(Long salonId) {
+        Entry entry = entries.get(salonId);
+
+        if (entry != null && entry.loadedAt().plus(ttl).isAfter(Instant.now())) {
+            return entry.entitlements();
+        }
+
+        long generation = evictions.get();
+        Entitlements entitlements = subscriptionRepository
+                .findCurrentPlan(salonId, List.of(TRIAL, ACTIVE, GRACE))
+                .map(Entitlements::of)
+                .orElseThrow(() -> new IllegalStateException("No active subscription"));
+
+        Entry loaded = new Entry(entitlements, Instant.now());
+        entries.put(salonId, loaded);
+        if (evictions.get() != generation) {
+            entries.remove(salonId, loaded);
+        }
+        return entitlements;
+    }
+
+    public void evict(Long salonId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictions.incrementAndGet();
+            entries.remove(salonId);
+        });
+    }
+
+    private record Entry(
+            Entitlements entitlements,
+            Instant loadedAt
+    ) {
+    }
+}
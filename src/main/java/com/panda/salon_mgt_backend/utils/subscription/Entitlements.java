@@ -0,0 +1,31 @@
+package com.panda.salon_mgt_backend.utils.subscription;
+
+import com.panda.salon_mgt_backend.models.Plan;
+import com.panda.salon_mgt_backend.models.PlanType;
+
+/**
+ * Immutable view of what a salon's current plan allows. Missing limits mean unlimited.
+ */
+public record Entitlements(
+        PlanType planType,
+        int maxStaff,
+        int maxServices,
+        int maxBookings,
+        boolean analyticsEnabled,
+        boolean smartAlertsEnabled
+) {
+    public static Entitlements of(Plan plan) {
+        return new Entitlements(
+                plan.getType(),
+                limit(plan.getMaxStaff()),
+                limit(plan.getMaxServices()),
+                limit(plan.getMaxBookings()),
+                Boolean.TRUE.equals(plan.getAnalyticsEnabled()),
+                Boolean.TRUE.equals(plan.getSmartAlertsEnabled())
+        );
+    }
+
+    private static int limit(Integer value) {
+        return value != null ? value : Integer.MAX_VALUE;
+    }
+}
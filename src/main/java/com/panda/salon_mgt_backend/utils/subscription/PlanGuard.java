@@ -3,52 +3,45 @@ package com.panda.salon_mgt_backend.utils.subscription;
 import com.panda.salon_mgt_backend.exceptions.PlanLimitExceededException;
 import com.panda.salon_mgt_backend.exceptions.PlanUpgradeRequiredException;
 import com.panda.salon_mgt_backend.models.*;
-import com.panda.salon_mgt_backend.repositories.SubscriptionRepository;
-import com.panda.salon_mgt_backend.utils.TenantContext;
+import com.panda.salon_mgt_backend.security.services.UserDetailsImpl;
+import com.panda.salon_mgt_backend.utils.TenantScope;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
-import static com.panda.salon_mgt_backend.models.SubscriptionStatus.*;
-
 @Component
 @RequiredArgsConstructor
 public class PlanGuard {
 
-    private final TenantContext tenantContext;
-    private final SubscriptionRepository subscriptionRepository;
-
-    private Subscription getEffectiveSub(Authentication auth) {
-        Salon salon = tenantContext.getSalon(auth);
-
-        return subscriptionRepository
-                .findTopBySalonAndStatusInOrderByStartDateDesc(
-                        salon,
-                        List.of(TRIAL, ACTIVE, GRACE)
-                )
-                .orElseThrow(() -> new IllegalStateException("No active subscription"));
-    }
+    private final TenantScope tenantScope;
+    private final EntitlementCache entitlementCache;
 
     // --------- CHECKERS ---------
 
     public boolean isFree(Authentication auth) {
-        return getEffectiveSub(auth).getPlan().getType() == PlanType.FREE;
+        return currentPlan(auth) == PlanType.FREE;
     }
 
     public boolean isPro(Authentication auth) {
-        PlanType code = getEffectiveSub(auth).getPlan().getType();
+        PlanType code = currentPlan(auth);
         return code == PlanType.PRO || code == PlanType.PREMIUM;
     }
 
     public boolean isPremium(Authentication auth) {
-        return getEffectiveSub(auth).getPlan().getType() == PlanType.PREMIUM;
+        return currentPlan(auth) == PlanType.PREMIUM;
     }
 
     public PlanType currentPlan(Authentication auth) {
-        return getEffectiveSub(auth).getPlan().getType();
+        return entitlements(auth).planType();
+    }
+
+    // salonId comes from the access token when present, so the common check is a map lookup
+    public Entitlements entitlements(Authentication auth) {
+        Long salonId = auth.getPrincipal() instanceof UserDetailsImpl user && user.getSalonId() != null
+                ? user.getSalonId()
+                : tenantScope.salon(auth).getSalonId();
+        return entitlementCache.get(salonId);
     }
 
     // --------- ENFORCERS (🔥 PAYWALL METHODS) ---------
@@ -71,18 +64,12 @@ public class PlanGuard {
         }
     }
 
-    public Plan getCurrentPlan(Authentication auth) {
-        return getEffectiveSub(auth).getPlan();
-    }
-
     public int maxStaff(Authentication auth) {
-        Integer limit = getCurrentPlan(auth).getMaxStaff();
-        return limit != null ? limit : Integer.MAX_VALUE;
+        return entitlements(auth).maxStaff();
     }
 
     public int maxServices(Authentication auth) {
-        Integer limit = getCurrentPlan(auth).getMaxServices();
-        return limit != null ? limit : Integer.MAX_VALUE;
+        return entitlements(auth).maxServices();
     }
 
     public void assertStaffLimit(Authentication auth, long currentCount) {
@@ -106,4 +93,4 @@ public class PlanGuard {
             );
         }
     }
-}
\ No newline at end of file
+}
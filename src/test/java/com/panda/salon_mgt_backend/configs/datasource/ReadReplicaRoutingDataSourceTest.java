@@ -0,0 +1,127 @@
+package com.panda.salon_mgt_backend.configs.datasource;
+
+import com.panda.salon_mgt_backend.configs.datasource.ReadReplicaRoutingDataSource.Pool;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWrites readYourWrites;
+    private ReadReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isUsable()).thenReturn(true);
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5));
+        routing = new ReadReplicaRoutingDataSource(
+                mock(HikariDataSource.class),
+                mock(HikariDataSource.class),
+                readYourWrites,
+                lagMonitor
+        );
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("ana@example.com", null, List.of())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        begin(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Pool.REPLICA);
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() {
+        begin(false);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Pool.PRIMARY);
+    }
+
+    @Test
+    void noTransactionGoesToPrimary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Pool.PRIMARY);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        when(lagMonitor.isUsable()).thenReturn(false);
+        begin(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Pool.PRIMARY);
+        assertThat(routing.snapshot().lagFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void readAfterOwnCommittedWriteFallsBackToPrimary() {
+        begin(false);
+        routing.determineCurrentLookupKey();
+        commit();
+
+        begin(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Pool.PRIMARY);
+        assertThat(routing.snapshot().readYourWritesFallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinReadsToPrimary() {
+        begin(false);
+        routing.determineCurrentLookupKey();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        begin(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Pool.REPLICA);
+    }
+
+    @Test
+    void otherPrincipalsStillReadFromReplica() {
+        readYourWrites.recordWrite("someone-else@example.com");
+        begin(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(Pool.REPLICA);
+    }
+
+    private static void begin(boolean readOnly) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void commit() {
+        for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+            s.afterCommit();
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+}
@@ -0,0 +1,211 @@
+package com.panda.salon_mgt_backend.repositories;
+
+import com.panda.salon_mgt_backend.models.BookingStatus;
+import com.panda.salon_mgt_backend.models.BookingView;
+import com.panda.salon_mgt_backend.services.booking.BookingCursor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plans the SQL Hibernate actually generates for the booking list specifications and checks
+ * that every role and time window combination is answered from its {@code booking_view} index.
+ * <p>
+ * Plans use {@code EXPLAIN (GENERIC_PLAN)} (Postgres 16+) so the bind markers need no values,
+ * with sequential scans disabled because a near-empty test table would otherwise always be
+ * scanned; the assertion is that the index can serve the query, not that it wins on cost.
+ */
+@SpringBootTest
+@Transactional
+class BookingListQueryPlanTest {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "startTime");
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private BookingViewRepository bookingViewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class RecordStatements {
+
+        @Bean
+        HibernatePropertiesCustomizer recordingStatementInspector() {
+            StatementInspector inspector = sql -> {
+                STATEMENTS.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        STATEMENTS.clear();
+        jdbcTemplate.execute("set local enable_seqscan = off");
+    }
+
+    /**
+     * The role predicate each list starts from, with the index that should serve it.
+     */
+    enum Scope {
+        ADMIN(BookingSpecifications.inSalon(1L), "idx_booking_view_salon_time"),
+        STAFF(BookingSpecifications.forStaff(1L), "idx_booking_view_staff_time"),
+        CUSTOMER(BookingSpecifications.forCustomer(1L), "idx_booking_view_customer_time");
+
+        final Specification<BookingView> spec;
+        final String index;
+
+        Scope(Specification<BookingView> spec, String index) {
+            this.spec = spec;
+            this.index = index;
+        }
+    }
+
+    /**
+     * The time window predicates the service adds for each {@code range}, plus explicit from/to.
+     */
+    enum Window {
+        TODAY {
+            @Override
+            Specification<BookingView> spec(Instant now) {
+                return BookingSpecifications.startsBetween(now, now.plus(1, ChronoUnit.DAYS));
+            }
+        },
+        UPCOMING {
+            @Override
+            Specification<BookingView> spec(Instant now) {
+                return BookingSpecifications.startsAfter(now);
+            }
+        },
+        PAST {
+            @Override
+            Specification<BookingView> spec(Instant now) {
+                return BookingSpecifications.startsBefore(now);
+            }
+        },
+        FROM_TO {
+            @Override
+            Specification<BookingView> spec(Instant now) {
+                return Specification.allOf(
+                        BookingSpecifications.startsAtOrAfter(now.minus(7, ChronoUnit.DAYS)),
+                        BookingSpecifications.startsBefore(now.plus(7, ChronoUnit.DAYS))
+                );
+            }
+        };
+
+        abstract Specification<BookingView> spec(Instant now);
+    }
+
+    static Stream<Arguments> scopesAndWindows() {
+        return Arrays.stream(Scope.values())
+                .flatMap(scope -> Arrays.stream(Window.values())
+                        .map(window -> Arguments.of(scope, window)));
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("scopesAndWindows")
+    void listUsesRoleTimeIndex(Scope scope, Window window) {
+        String plan = planOf(Specification.allOf(
+                scope.spec,
+                window.spec(Instant.parse("2026-01-01T00:00:00Z")),
+                BookingSpecifications.hasStatus(BookingStatus.CONFIRMED)
+        ));
+
+        assertThat(plan)
+                .contains(scope.index)
+                .doesNotContain("Seq Scan");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(Scope.class)
+    void searchUsesAnIndex(Scope scope) {
+        String plan = planOf(Specification.allOf(
+                scope.spec,
+                BookingSpecifications.matchesSearch("haircut")
+        ));
+
+        // the planner may lead with either the role index or the trigram index
+        assertThat(plan)
+                .containsAnyOf(scope.index, "idx_booking_view_search_trgm")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void salonSearchUsesTrigramIndex() {
+        String plan = planOf(Specification.allOf(
+                BookingSpecifications.inSalon(1L),
+                BookingSpecifications.matchesSearch("haircut")
+        ));
+
+        assertThat(plan).contains("idx_booking_view_search_trgm");
+    }
+
+    @Test
+    void keysetPageSeeksOnSalonTimeIndex() {
+        BookingCursor cursor = new BookingCursor(Instant.parse("2026-02-01T10:00:00Z"), 500L);
+
+        String plan = planOf(Specification.allOf(
+                BookingSpecifications.inSalon(1L),
+                BookingSpecifications.after(cursor)
+        ));
+
+        assertThat(plan).contains("idx_booking_view_salon_time");
+    }
+
+    private String planOf(Specification<BookingView> spec) {
+        bookingViewRepository.findAll(spec, PageRequest.of(0, 20, NEWEST_FIRST));
+
+        String sql = STATEMENTS.stream()
+                .filter(s -> s.contains("booking_view") && !s.contains("count("))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+
+        return String.join("\n", jdbcTemplate.queryForList(
+                "explain (generic_plan) " + numberBindMarkers(sql),
+                String.class
+        ));
+    }
+
+    // Postgres plans $n markers; Hibernate emits JDBC '?'
+    private static String numberBindMarkers(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 16);
+        int n = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                out.append('$').append(++n);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,142 @@
+package com.panda.salon_mgt_backend.security.jwt;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest {
+
+    private JwtService jwtService;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = mock(JwtService.class);
+        cache = new VerifiedTokenCache(jwtService, 100);
+    }
+
+    @Test
+    void secondVerifyOfSameTokenIsAHit() {
+        when(jwtService.parseAccessToken("a")).thenReturn(claims(1L, 60));
+
+        VerifiedAccessToken first = cache.verify("a");
+        VerifiedAccessToken second = cache.verify("a");
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.principal().getId()).isEqualTo(1L);
+        verify(jwtService, times(1)).parseAccessToken("a");
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void differentTokensMissSeparately() {
+        when(jwtService.parseAccessToken("a")).thenReturn(claims(1L, 60));
+        when(jwtService.parseAccessToken("b")).thenReturn(claims(2L, 60));
+
+        cache.verify("a");
+        cache.verify("b");
+
+        assertThat(cache.stats().misses()).isEqualTo(2);
+        assertThat(cache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntryIsVerifiedAgain() {
+        when(jwtService.parseAccessToken("a")).thenReturn(claims(1L, -1));
+
+        cache.verify("a");
+        cache.verify("a");
+
+        verify(jwtService, times(2)).parseAccessToken("a");
+        assertThat(cache.stats().hits()).isZero();
+    }
+
+    @Test
+    void invalidTokenIsNotCached() {
+        when(jwtService.parseAccessToken("bad")).thenThrow(new JwtException("bad signature"));
+
+        assertThatThrownBy(() -> cache.verify("bad")).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> cache.verify("bad")).isInstanceOf(JwtException.class);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void nonAccessTokenIsNotCached() {
+        assertThat(cache.verify("refresh")).isNull();
+        assertThat(cache.verify("refresh")).isNull();
+
+        verify(jwtService, times(2)).parseAccessToken("refresh");
+    }
+
+    @Test
+    void evictUserDropsOnlyThatUsersTokens() {
+        when(jwtService.parseAccessToken("a1")).thenReturn(claims(1L, 60));
+        when(jwtService.parseAccessToken("a2")).thenReturn(claims(1L, 60));
+        when(jwtService.parseAccessToken("b")).thenReturn(claims(2L, 60));
+        cache.verify("a1");
+        cache.verify("a2");
+        cache.verify("b");
+
+        cache.evictUser(1L);
+
+        assertThat(cache.stats().size()).isEqualTo(1);
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+        cache.verify("b");
+        cache.verify("a1");
+        verify(jwtService, times(1)).parseAccessToken("b");
+        verify(jwtService, times(2)).parseAccessToken("a1");
+    }
+
+    @Test
+    void fullCacheDropsLeastRecentlyUsed() {
+        cache = new VerifiedTokenCache(jwtService, 10);
+        for (int i = 0; i < 10; i++) {
+            when(jwtService.parseAccessToken("t" + i)).thenReturn(claims((long) i, 60));
+            cache.verify("t" + i);
+        }
+        // t0 is the oldest insert but was just used, so t1 is evicted instead
+        cache.verify("t0");
+        when(jwtService.parseAccessToken("new")).thenReturn(claims(99L, 60));
+
+        cache.verify("new");
+        cache.verify("t0");
+        cache.verify("t1");
+
+        verify(jwtService, times(1)).parseAccessToken("t0");
+        verify(jwtService, times(2)).parseAccessToken("t1");
+    }
+
+    @Test
+    void disabledCacheAlwaysVerifies() {
+        cache = new VerifiedTokenCache(jwtService, 0);
+        when(jwtService.parseAccessToken("a")).thenReturn(claims(1L, 60));
+
+        cache.verify("a");
+        cache.verify("a");
+
+        verify(jwtService, times(2)).parseAccessToken("a");
+    }
+
+    private static AccessTokenClaims claims(Long userId, long expiresInSeconds) {
+        Instant now = Instant.now();
+        return new AccessTokenClaims(
+                userId,
+                "user" + userId + "@example.com",
+                List.of("ROLE_USER"),
+                null,
+                now,
+                now.plusSeconds(expiresInSeconds)
+        );
+    }
+}
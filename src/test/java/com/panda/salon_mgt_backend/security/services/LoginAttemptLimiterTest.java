@@ -0,0 +1,67 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import com.panda.salon_mgt_backend.exceptions.TooManyAttemptsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptLimiterTest {
+
+    private static final String IP = "203.0.113.7";
+
+    private LoginAttemptLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginAttemptLimiter(300, 5, 3);
+    }
+
+    @Test
+    void successfulLoginsFromOneAddressAreNeverThrottled() {
+        for (int i = 0; i < 50; i++) {
+            String email = "user" + i + "@example.com";
+            limiter.checkAllowed(email, IP);
+            limiter.onSuccess(email);
+        }
+
+        assertThatCode(() -> limiter.checkAllowed("next@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failuresFromOneAddressAreThrottled() {
+        for (int i = 0; i < 5; i++) {
+            limiter.onFailure("user" + i + "@example.com", IP);
+        }
+
+        assertThatThrownBy(() -> limiter.checkAllowed("other@example.com", IP))
+                .isInstanceOf(TooManyAttemptsException.class);
+        assertThatCode(() -> limiter.checkAllowed("other@example.com", "198.51.100.1"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void failuresForOneEmailAreThrottledUntilASuccess() {
+        for (int i = 0; i < 3; i++) {
+            limiter.onFailure("Ana@Example.com", "198.51.100." + i);
+        }
+
+        assertThatThrownBy(() -> limiter.checkAllowed("ana@example.com", IP))
+                .isInstanceOf(TooManyAttemptsException.class);
+
+        limiter.onSuccess("ana@example.com");
+        assertThatCode(() -> limiter.checkAllowed("ana@example.com", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void registrationsCountAgainstTheAddress() {
+        for (int i = 0; i < 5; i++) {
+            limiter.checkAllowed(null, IP);
+            limiter.onRegistration(IP);
+        }
+
+        assertThatThrownBy(() -> limiter.checkAllowed(null, IP))
+                .isInstanceOf(TooManyAttemptsException.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedJtiFilterTest {
+
+    private static final long REFRESH_TTL_SECONDS = 7 * 24 * 3600;
+
+    @Test
+    void addedJtiIsReported() {
+        RevokedJtiFilter filter = new RevokedJtiFilter(REFRESH_TTL_SECONDS, 60, 1000, 0.01);
+        String jti = UUID.randomUUID().toString();
+
+        filter.add(jti);
+
+        assertThat(filter.mightContain(jti)).isTrue();
+    }
+
+    @Test
+    void emptyFilterReportsNothing() {
+        RevokedJtiFilter filter = new RevokedJtiFilter(REFRESH_TTL_SECONDS, 60, 1000, 0.01);
+
+        assertThat(filter.mightContain(UUID.randomUUID().toString())).isFalse();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        int expected = 10_000;
+        RevokedJtiFilter filter = new RevokedJtiFilter(REFRESH_TTL_SECONDS, 60, expected, 0.01);
+        for (int i = 0; i < expected; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int probes = 50_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void concurrentAddsAreAllVisible() throws Exception {
+        RevokedJtiFilter filter = new RevokedJtiFilter(REFRESH_TTL_SECONDS, 60, 20_000, 0.01);
+        List<String> jtis = new ArrayList<>();
+        for (int i = 0; i < 8_000; i++) {
+            jtis.add(UUID.randomUUID().toString());
+        }
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                List<String> slice = jtis.subList(t * 1_000, (t + 1) * 1_000);
+                writers.add(pool.submit(() -> slice.forEach(filter::add)));
+            }
+            for (Future<?> w : writers) {
+                w.get();
+            }
+        }
+
+        assertThat(jtis).allMatch(filter::mightContain);
+    }
+}
@@ -0,0 +1,107 @@
+package com.panda.salon_mgt_backend.security.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SlidingWindowCounterTest {
+
+    private static final long HOUR = 3_600_000;
+
+    @Test
+    void unknownKeyCountsZero() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR);
+
+        assertThat(counter.count("10.0.0.1")).isZero();
+        assertThat(counter.size()).isZero();
+    }
+
+    @Test
+    void incrementReturnsTheCountIncludingTheEvent() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR);
+
+        counter.increment("10.0.0.1");
+        counter.increment("10.0.0.1");
+        double third = counter.increment("10.0.0.1");
+
+        assertThat(third).isCloseTo(3, within(0.01));
+        assertThat(counter.count("10.0.0.1")).isCloseTo(3, within(0.01));
+        assertThat(counter.count("10.0.0.2")).isZero();
+    }
+
+    @Test
+    void resetForgetsTheKey() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR);
+        counter.increment("a@example.com");
+
+        counter.reset("a@example.com");
+
+        assertThat(counter.count("a@example.com")).isZero();
+        assertThat(counter.size()).isZero();
+    }
+
+    @Test
+    void previousWindowFadesOutAndThenDrops() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(200);
+        awaitWindowStart(200);
+        for (int i = 0; i < 10; i++) {
+            counter.increment("k");
+        }
+
+        // into the next window: the old events are weighted by their remaining overlap
+        awaitWindowStart(200);
+        Thread.sleep(100);
+        assertThat(counter.count("k")).isBetween(2.0, 8.0);
+
+        // two windows on, nothing of them overlaps
+        awaitWindowStart(200);
+        assertThat(counter.count("k")).isZero();
+    }
+
+    @Test
+    void purgeIdleDropsKeysWithNoRecentEvents() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(50);
+        counter.increment("old");
+
+        Thread.sleep(150);
+        counter.increment("fresh");
+        counter.purgeIdle();
+
+        assertThat(counter.size()).isEqualTo(1);
+        assertThat(counter.count("fresh")).isPositive();
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLost() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(HOUR);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                writers.add(pool.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        counter.increment("shared");
+                    }
+                }));
+            }
+            for (Future<?> w : writers) {
+                w.get();
+            }
+        }
+
+        assertThat(counter.count("shared")).isCloseTo(8_000, within(1.0));
+    }
+
+    // sleeps to just past the next window boundary, so the test does not straddle one by chance
+    private static void awaitWindowStart(long windowMillis) throws InterruptedException {
+        long now = System.currentTimeMillis();
+        Thread.sleep(windowMillis - now % windowMillis + 5);
+    }
+}
@@ -0,0 +1,47 @@
+package com.panda.salon_mgt_backend.services.analytics.forecast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rolling-origin backtest of {@link HoltWinters} against the flat 7-day average it replaced.
+ * Each fold fits on every day before its origin and scores the following week.
+ */
+class ForecastBacktestTest {
+
+    private static final int HORIZON = SalonForecasts.HORIZON;
+    private static final int FOLDS = 8;
+
+    @Test
+    void beatsTheSevenDayAverageOnASeasonalSeries() {
+        Random random = new Random(42);
+        double[] week = {3, 4, 4, 5, 8, 13, 11};
+        double[] y = new double[26 * 7];
+        for (int t = 0; t < y.length; t++) {
+            y[t] = Math.max(0, Math.round(week[t % 7] + t * 0.02 + random.nextGaussian()));
+        }
+
+        double modelError = 0;
+        double baselineError = 0;
+        for (int k = FOLDS; k >= 1; k--) {
+            int origin = y.length - k * HORIZON;
+            double[] train = Arrays.copyOf(y, origin);
+
+            HoltWinters.Model model = HoltWinters.fit(train);
+            double baseline = Math.round(Arrays.stream(train, origin - HORIZON, origin).average().orElse(0));
+
+            for (int h = 1; h <= HORIZON; h++) {
+                double actual = y[origin + h - 1];
+                modelError += Math.abs(actual - model.forecast(h));
+                baselineError += Math.abs(actual - baseline);
+            }
+        }
+
+        int scored = FOLDS * HORIZON;
+        assertThat(modelError / scored).isLessThan(0.5 * baselineError / scored);
+    }
+}
@@ -0,0 +1,74 @@
+package com.panda.salon_mgt_backend.services.analytics.forecast;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HoltWintersTest {
+
+    // Mon..Sun shape, busy weekends
+    private static final double[] WEEK = {4, 5, 5, 6, 9, 14, 12};
+
+    @Test
+    void shortSeriesFallsBackToFlatMean() {
+        HoltWinters.Model model = HoltWinters.fit(new double[]{2, 4, 6, 8});
+
+        assertThat(model.trend()).isZero();
+        for (int h = 1; h <= 7; h++) {
+            assertThat(model.forecast(h)).isEqualTo(5.0);
+        }
+    }
+
+    @Test
+    void emptySeriesForecastsZero() {
+        assertThat(HoltWinters.fit(new double[0]).forecast(1)).isZero();
+    }
+
+    @Test
+    void forecastIsFlooredAtZero() {
+        HoltWinters.Model model = new HoltWinters.Model(0.5, 0, 0.5, 1, -2, new double[7], 0);
+
+        assertThat(model.forecast(1)).isZero();
+    }
+
+    @Test
+    void repeatsAStableWeeklyPattern() {
+        HoltWinters.Model model = HoltWinters.fit(weeks(8, 0));
+
+        for (int h = 1; h <= 7; h++) {
+            assertThat(model.forecast(h)).isCloseTo(WEEK[(h - 1) % 7], within(0.01));
+        }
+        assertThat(model.rmse()).isCloseTo(0, within(0.01));
+    }
+
+    @Test
+    void seasonIsAlignedToTheDayAfterTheLastObservation() {
+        // ends on a Wednesday, so the next day is Thursday (index 3)
+        double[] y = weeks(6, 0);
+        double[] cut = Arrays.copyOf(y, y.length - 4);
+
+        HoltWinters.Model model = HoltWinters.fit(cut);
+
+        assertThat(model.forecast(1)).isCloseTo(WEEK[3], within(0.01));
+        assertThat(model.forecast(3)).isCloseTo(WEEK[5], within(0.01));
+    }
+
+    @Test
+    void followsALinearTrend() {
+        HoltWinters.Model model = HoltWinters.fit(weeks(10, 0.5));
+
+        assertThat(model.trend()).isCloseTo(0.5, within(0.05));
+        assertThat(model.forecast(8)).isCloseTo(model.forecast(1) + 7 * 0.5, within(0.5));
+    }
+
+    static double[] weeks(int count, double trendPerDay) {
+        double[] y = new double[count * 7];
+        for (int t = 0; t < y.length; t++) {
+            y[t] = WEEK[t % 7] + t * trendPerDay;
+        }
+        return y;
+    }
+}
@@ -0,0 +1,38 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.exceptions.CanNotException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingCursorTest {
+
+    @Test
+    void roundTripsThroughToken() {
+        BookingCursor cursor = new BookingCursor(Instant.parse("2026-02-01T10:00:00.123Z"), 500L);
+
+        assertThat(BookingCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not-a-number:0:1",
+            "1700000000:0",
+            "99999999999999999:0:1",
+            "9223372036854775807:1000000000:1"
+    })
+    void rejectsMalformedOrOutOfRangeTokens(String raw) {
+        String token = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> BookingCursor.decode(token)).isInstanceOf(CanNotException.class);
+    }
+}
@@ -0,0 +1,173 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.SalonOpeningHours;
+import com.panda.salon_mgt_backend.models.StaffScheduleEntry;
+import com.panda.salon_mgt_backend.models.StaffScheduleKind;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SalonCalendarTest {
+
+    private static final Long STAFF = 7L;
+    // a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Test
+    void salonWithoutOpeningHoursUsesTheDefaults() {
+        SalonCalendar calendar = SalonCalendar.compile(ZoneOffset.UTC, List.of(), List.of(), List.of());
+
+        assertThat(intervals(calendar.workingDay(STAFF, MONDAY))).containsExactly("09:00-21:00");
+    }
+
+    @Test
+    void overlappingAndTouchingOpeningHoursAreMerged() {
+        SalonCalendar calendar = SalonCalendar.compile(ZoneOffset.UTC, List.of(
+                hours(DayOfWeek.MONDAY, "13:00", "17:00"),
+                hours(DayOfWeek.MONDAY, "09:00", "12:00"),
+                hours(DayOfWeek.MONDAY, "11:00", "13:00"),
+                hours(DayOfWeek.MONDAY, "18:00", "20:00")
+        ), List.of(), List.of());
+
+        assertThat(intervals(calendar.workingDay(STAFF, MONDAY))).containsExactly("09:00-17:00", "18:00-20:00");
+        assertThat(calendar.workingDay(STAFF, MONDAY.plusDays(1)).isClosed()).isTrue();
+    }
+
+    @Test
+    void shiftsAreClippedToOpeningHours() {
+        SalonCalendar calendar = SalonCalendar.compile(ZoneOffset.UTC,
+                List.of(
+                        hours(DayOfWeek.MONDAY, "09:00", "13:00"),
+                        hours(DayOfWeek.MONDAY, "14:00", "18:00")
+                ),
+                List.of(
+                        entry(StaffScheduleKind.SHIFT, "08:00", "10:00"),
+                        entry(StaffScheduleKind.SHIFT, "12:00", "15:00"),
+                        entry(StaffScheduleKind.SHIFT, "17:30", "22:00")
+                ),
+                List.of());
+
+        assertThat(intervals(calendar.workingDay(STAFF, MONDAY)))
+                .containsExactly("09:00-10:00", "12:00-13:00", "14:00-15:00", "17:30-18:00");
+        // staff with shifts only on Monday are off on other days
+        assertThat(calendar.workingDay(STAFF, MONDAY.plusDays(1)).isClosed()).isTrue();
+    }
+
+    @Test
+    void breaksAreCutOutOfTheWorkingDay() {
+        SalonCalendar calendar = SalonCalendar.compile(ZoneOffset.UTC,
+                List.of(hours(DayOfWeek.MONDAY, "09:00", "18:00")),
+                List.of(
+                        entry(StaffScheduleKind.BREAK, "08:00", "09:30"),
+                        entry(StaffScheduleKind.BREAK, "12:00", "13:00"),
+                        entry(StaffScheduleKind.BREAK, "12:30", "13:15"),
+                        entry(StaffScheduleKind.BREAK, "17:45", "19:00")
+                ),
+                List.of());
+
+        assertThat(intervals(calendar.workingDay(STAFF, MONDAY)))
+                .containsExactly("09:30-12:00", "13:15-17:45");
+    }
+
+    @Test
+    void breakSpanningAGapCutsBothShifts() {
+        SalonCalendar calendar = SalonCalendar.compile(ZoneOffset.UTC,
+                List.of(hours(DayOfWeek.MONDAY, "09:00", "18:00")),
+                List.of(
+                        entry(StaffScheduleKind.SHIFT, "09:00", "12:00"),
+                        entry(StaffScheduleKind.SHIFT, "13:00", "18:00"),
+                        entry(StaffScheduleKind.BREAK, "11:30", "14:00"),
+                        entry(StaffScheduleKind.BREAK, "16:00", "16:30")
+                ),
+                List.of());
+
+        assertThat(intervals(calendar.workingDay(STAFF, MONDAY)))
+                .containsExactly("09:00-11:30", "14:00-16:00", "16:30-18:00");
+    }
+
+    @Test
+    void breakCoveringTheWholeDayClosesIt() {
+        SalonCalendar calendar = SalonCalendar.compile(ZoneOffset.UTC,
+                List.of(hours(DayOfWeek.MONDAY, "09:00", "18:00")),
+                List.of(entry(StaffScheduleKind.BREAK, "08:00", "19:00")),
+                List.of());
+
+        assertThat(calendar.workingDay(STAFF, MONDAY).isClosed()).isTrue();
+        assertThat(calendar.workingDay(99L, MONDAY).isClosed()).isFalse();
+    }
+
+    @Test
+    void holidaysAreClosed() {
+        SalonCalendar calendar = SalonCalendar.compile(ZoneOffset.UTC, List.of(), List.of(), List.of(MONDAY));
+
+        assertThat(calendar.workingDay(STAFF, MONDAY).isClosed()).isTrue();
+        assertThat(calendar.workingDay(STAFF, MONDAY.plusDays(1)).isClosed()).isFalse();
+    }
+
+    @Test
+    void coversOnlyWithinOneInterval() {
+        SalonCalendar calendar = SalonCalendar.compile(ZoneOffset.UTC,
+                List.of(hours(DayOfWeek.MONDAY, "09:00", "18:00")),
+                List.of(entry(StaffScheduleKind.BREAK, "12:00", "13:00")),
+                List.of());
+
+        assertThat(calendar.covers(STAFF, at(MONDAY, "09:00"), at(MONDAY, "12:00"))).isTrue();
+        assertThat(calendar.covers(STAFF, at(MONDAY, "11:30"), at(MONDAY, "12:30"))).isFalse();
+        assertThat(calendar.covers(STAFF, at(MONDAY, "08:30"), at(MONDAY, "09:30"))).isFalse();
+        assertThat(calendar.covers(STAFF, at(MONDAY, "17:30"), at(MONDAY, "18:01"))).isFalse();
+    }
+
+    @Test
+    void localHoursFollowTheSalonZoneAcrossDst() {
+        ZoneId london = ZoneId.of("Europe/London");
+        // clocks go forward on Sunday 2026-03-29
+        LocalDate before = LocalDate.of(2026, 3, 23);
+        LocalDate after = LocalDate.of(2026, 3, 30);
+        SalonCalendar calendar = SalonCalendar.compile(london,
+                List.of(hours(DayOfWeek.MONDAY, "09:00", "17:00")), List.of(), List.of());
+
+        assertThat(calendar.workingDay(STAFF, before).opensAt()).isEqualTo(Instant.parse("2026-03-23T09:00:00Z"));
+        assertThat(calendar.workingDay(STAFF, after).opensAt()).isEqualTo(Instant.parse("2026-03-30T08:00:00Z"));
+        assertThat(calendar.covers(STAFF, Instant.parse("2026-03-30T08:00:00Z"), Instant.parse("2026-03-30T09:00:00Z")))
+                .isTrue();
+    }
+
+    private static SalonOpeningHours hours(DayOfWeek day, String opens, String closes) {
+        SalonOpeningHours h = new SalonOpeningHours();
+        h.setDayOfWeek(day);
+        h.setOpensAt(LocalTime.parse(opens));
+        h.setClosesAt(LocalTime.parse(closes));
+        return h;
+    }
+
+    private static StaffScheduleEntry entry(StaffScheduleKind kind, String starts, String ends) {
+        StaffScheduleEntry e = new StaffScheduleEntry();
+        e.setStaffId(STAFF);
+        e.setKind(kind);
+        e.setDayOfWeek(DayOfWeek.MONDAY);
+        e.setStartsAt(LocalTime.parse(starts));
+        e.setEndsAt(LocalTime.parse(ends));
+        return e;
+    }
+
+    private static Instant at(LocalDate date, String time) {
+        return date.atTime(LocalTime.parse(time)).toInstant(ZoneOffset.UTC);
+    }
+
+    private static List<String> intervals(WorkingDay day) {
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < day.intervalCount(); i++) {
+            out.add(LocalTime.ofInstant(day.openAt(i), ZoneOffset.UTC) + "-" + LocalTime.ofInstant(day.closeAt(i), ZoneOffset.UTC));
+        }
+        return out;
+    }
+}
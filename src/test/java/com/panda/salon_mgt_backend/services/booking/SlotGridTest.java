@@ -0,0 +1,113 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotGridTest {
+
+    private static final Instant ORIGIN = Instant.parse("2026-03-02T00:00:00Z");
+
+    private SlotGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new SlotGrid().reset(ORIGIN);
+    }
+
+    @Test
+    void emptyGridIsFreeEverywhere() {
+        assertThat(grid.nextFree(0)).isZero();
+        assertThat(grid.nextBusy(0)).isEqualTo(SlotGrid.CAPACITY);
+    }
+
+    @Test
+    void markBusyWidensToWholeTicks() {
+        // 09:02 - 09:11 covers ticks 108..110 (09:00 - 09:15)
+        grid.markBusy(at(9, 2), at(9, 11));
+
+        assertThat(grid.nextBusy(0)).isEqualTo(108);
+        assertThat(grid.nextFree(108)).isEqualTo(111);
+    }
+
+    @Test
+    void markBusySpansWordBoundaries() {
+        grid.markBusy(60, 200);
+
+        assertThat(grid.nextBusy(0)).isEqualTo(60);
+        assertThat(grid.nextFree(60)).isEqualTo(200);
+        assertThat(grid.nextBusy(200)).isEqualTo(SlotGrid.CAPACITY);
+    }
+
+    @Test
+    void markBusyClampsOutOfRangeTicks() {
+        grid.markBusy(-10, 5);
+        grid.markBusy(SlotGrid.CAPACITY - 1, SlotGrid.CAPACITY + 50);
+
+        assertThat(grid.nextFree(0)).isEqualTo(5);
+        assertThat(grid.nextBusy(5)).isEqualTo(SlotGrid.CAPACITY - 1);
+    }
+
+    @Test
+    void restrictToClosesEverythingOutsideWorkingIntervals() {
+        // 09:00-13:00 and 14:00-18:00 UTC
+        WorkingDay day = WorkingDay.of(date(), ZoneOffset.UTC, new int[]{540, 780, 840, 1080});
+
+        grid.restrictTo(day);
+
+        assertThat(grid.nextFree(0)).isEqualTo(108);
+        assertThat(grid.nextBusy(108)).isEqualTo(156);
+        assertThat(grid.nextFree(156)).isEqualTo(168);
+        assertThat(grid.nextBusy(168)).isEqualTo(216);
+        assertThat(grid.nextFree(216)).isEqualTo(SlotGrid.CAPACITY);
+    }
+
+    @Test
+    void restrictToClosedDayLeavesNothingFree() {
+        grid.restrictTo(WorkingDay.CLOSED);
+
+        assertThat(grid.nextFree(0)).isEqualTo(SlotGrid.CAPACITY);
+    }
+
+    @Test
+    void restrictToResolvesLocalHoursInTheSalonZone() {
+        ZoneId kolkata = ZoneId.of("Asia/Kolkata");
+        grid.reset(date().atStartOfDay(kolkata).toInstant());
+
+        // 10:00 - 11:00 local
+        grid.restrictTo(WorkingDay.of(date(), kolkata, new int[]{600, 660}));
+
+        assertThat(grid.nextFree(0)).isEqualTo(120);
+        assertThat(grid.nextBusy(120)).isEqualTo(132);
+    }
+
+    @Test
+    void resetClearsPreviousMarks() {
+        grid.markBusy(0, SlotGrid.CAPACITY);
+
+        grid.reset(ORIGIN);
+
+        assertThat(grid.nextBusy(0)).isEqualTo(SlotGrid.CAPACITY);
+    }
+
+    @Test
+    void instantAtAndTicksForRoundTrip() {
+        assertThat(grid.instantAt(108)).isEqualTo(at(9, 0));
+        assertThat(SlotGrid.ticksFor(30)).isEqualTo(6);
+        assertThat(SlotGrid.ticksFor(31)).isEqualTo(7);
+    }
+
+    private static LocalDate date() {
+        return LocalDate.of(2026, 3, 2);
+    }
+
+    private static Instant at(int hour, int minute) {
+        return ORIGIN.plusSeconds(hour * 3600L + minute * 60L);
+    }
+}
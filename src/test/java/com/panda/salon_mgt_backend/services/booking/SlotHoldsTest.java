@@ -0,0 +1,113 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.models.SlotHold;
+import com.panda.salon_mgt_backend.repositories.SlotHoldRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlotHoldsTest {
+
+    private static final Long STAFF = 3L;
+    private static final Instant DAY = Instant.now().plus(Duration.ofDays(1));
+
+    private SlotHoldRepository repository;
+    private SlotHolds holds;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(SlotHoldRepository.class);
+        holds = new SlotHolds(repository, mock(PlatformTransactionManager.class), 120, 3);
+    }
+
+    @Test
+    void heldBetweenReturnsOverlappingHoldsByStart() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        holds.onPlaced(hold(1L, 60, 90, expiresAt));
+        holds.onPlaced(hold(2L, 0, 30, expiresAt));
+        holds.onPlaced(hold(3L, 200, 230, expiresAt));
+
+        assertThat(holds.heldBetween(STAFF, DAY, DAY.plusSeconds(120 * 60)))
+                .extracting(HeldSlot::holdId)
+                .containsExactly(2L, 1L);
+        assertThat(holds.heldBetween(99L, DAY, DAY.plusSeconds(120 * 60))).isEmpty();
+    }
+
+    @Test
+    void expiredHoldIsHiddenBeforeTheWheelRemovesIt() {
+        holds.onPlaced(hold(1L, 0, 30, Instant.now().minusSeconds(1)));
+
+        assertThat(holds.heldBetween(STAFF, DAY, DAY.plusSeconds(30 * 60))).isEmpty();
+        assertThat(holds.liveHolds()).isEqualTo(1);
+    }
+
+    @Test
+    void releasedHoldIsRemoved() {
+        SlotHold hold = hold(1L, 0, 30, Instant.now().plusSeconds(60));
+        holds.onPlaced(hold);
+
+        holds.onReleased(hold);
+
+        assertThat(holds.liveHolds()).isZero();
+    }
+
+    @Test
+    void tickDropsDueHoldsAndRequeuesHoldsALapAhead() throws InterruptedException {
+        Instant now = Instant.now();
+        // same wheel slot, one revolution (512s) apart
+        holds.onPlaced(hold(1L, 0, 30, now.plusSeconds(1)));
+        holds.onPlaced(hold(2L, 60, 90, now.plusSeconds(1 + 512)));
+        holds.onPlaced(hold(3L, 120, 150, now.plusSeconds(60)));
+
+        Thread.sleep(2_100);
+        holds.tick();
+
+        assertThat(holds.heldBetween(STAFF, DAY, DAY.plusSeconds(200 * 60)))
+                .extracting(HeldSlot::holdId)
+                .containsExactly(2L, 3L);
+        assertThat(holds.liveHolds()).isEqualTo(2);
+
+        holds.tick();
+        assertThat(holds.liveHolds()).isEqualTo(2);
+    }
+
+    @Test
+    void syncAddsHoldsPlacedOnOtherNodesOnce() {
+        SlotHold remote = hold(7L, 0, 30, Instant.now().plusSeconds(60));
+        when(repository.findByCreatedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(remote));
+
+        holds.sync();
+        holds.sync();
+
+        assertThat(holds.heldBetween(STAFF, DAY, DAY.plusSeconds(30 * 60)))
+                .extracting(HeldSlot::holdId)
+                .containsExactly(7L);
+    }
+
+    @Test
+    void expiryNeverPassesTheSlotStart() {
+        Instant now = Instant.now();
+
+        assertThat(holds.expiryFor(now, now.plusSeconds(600))).isEqualTo(now.plusSeconds(120));
+        assertThat(holds.expiryFor(now, now.plusSeconds(30))).isEqualTo(now.plusSeconds(30));
+    }
+
+    private static SlotHold hold(Long id, int startMinute, int endMinute, Instant expiresAt) {
+        SlotHold hold = new SlotHold();
+        hold.setId(id);
+        hold.setStaffId(STAFF);
+        hold.setStartTime(DAY.plusSeconds(startMinute * 60L));
+        hold.setEndTime(DAY.plusSeconds(endMinute * 60L));
+        hold.setExpiresAt(expiresAt);
+        return hold;
+    }
+}
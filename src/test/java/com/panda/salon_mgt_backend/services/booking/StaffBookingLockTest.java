@@ -0,0 +1,127 @@
+package com.panda.salon_mgt_backend.services.booking;
+
+import com.panda.salon_mgt_backend.exceptions.CanNotException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class StaffBookingLockTest {
+
+    private StaffBookingLock lock;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        lock = new StaffBookingLock(mock(JdbcTemplate.class), 200);
+        pool = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void requiresActiveTransaction() {
+        assertThatThrownBy(() -> lock.lock(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void lockIsReleasedAndDroppedOnCompletion() throws Exception {
+        pool.submit(() -> inTransaction(() -> {
+            lock.lock(7L);
+            assertThat(lock.liveLocks()).isEqualTo(1);
+        })).get();
+
+        assertThat(lock.liveLocks()).isZero();
+    }
+
+    @Test
+    void sameStaffWaitsAndTimesOut() throws Exception {
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        Future<?> holder = pool.submit(() -> inTransaction(() -> {
+            lock.lock(5L);
+            held.countDown();
+            await(done);
+        }));
+        held.await();
+
+        Future<?> contender = pool.submit(() -> inTransaction(() -> lock.lock(5L)));
+
+        assertThatThrownBy(contender::get).hasCauseInstanceOf(CanNotException.class);
+        done.countDown();
+        holder.get();
+        assertThat(lock.liveLocks()).isZero();
+    }
+
+    @Test
+    void staffWhoseIdsWouldShareAStripeDoNotBlockEachOther() throws Exception {
+        // 1, 1025, 2049 ... all mapped to one stripe of a 1024-way striped lock
+        int staff = 6;
+        CountDownLatch allHeld = new CountDownLatch(staff);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < staff; i++) {
+            long staffId = 1 + 1024L * i;
+            writers.add(pool.submit(() -> inTransaction(() -> {
+                lock.lock(staffId);
+                allHeld.countDown();
+                await(release);
+            })));
+        }
+
+        // every writer holds its lock at the same time, well inside the 200ms wait
+        assertThat(allHeld.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(lock.liveLocks()).isEqualTo(staff);
+
+        release.countDown();
+        for (Future<?> w : writers) {
+            w.get();
+        }
+        assertThat(lock.liveLocks()).isZero();
+    }
+
+    private static void inTransaction(Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        int status = TransactionSynchronization.STATUS_COMMITTED;
+        try {
+            body.run();
+        } catch (RuntimeException e) {
+            status = TransactionSynchronization.STATUS_ROLLED_BACK;
+            throw e;
+        } finally {
+            for (TransactionSynchronization s : TransactionSynchronizationManager.getSynchronizations()) {
+                s.afterCompletion(status);
+            }
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
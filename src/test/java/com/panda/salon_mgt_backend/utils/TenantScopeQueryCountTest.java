@@ -0,0 +1,105 @@
+package com.panda.salon_mgt_backend.utils;
+
+import com.panda.salon_mgt_backend.models.Salon;
+import com.panda.salon_mgt_backend.models.User;
+import com.panda.salon_mgt_backend.repositories.SalonRepository;
+import com.panda.salon_mgt_backend.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements behind the tenant lookups a typical write makes (user, salon id, admin
+ * check, salon entity), with and without a request to scope them to.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TenantScopeQueryCountTest {
+
+    private static final String EMAIL = "scope-owner@example.com";
+
+    @Autowired
+    private TenantContext tenantContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SalonRepository salonRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Authentication auth;
+
+    @BeforeEach
+    void setUp() {
+        User owner = new User("scope-owner", EMAIL, "x", true);
+        owner.setRoles(new HashSet<>());
+        userRepository.save(owner);
+
+        Salon salon = new Salon();
+        salon.setSalonName("Scope Salon");
+        salon.setSalonAddress("1 Test Street");
+        salon.setOwner(owner);
+        salonRepository.save(salon);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        auth = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void requestResolvesTenantWithOneQuery() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        long statements = lookups();
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void withoutARequestEveryLookupQueries() {
+        long statements = lookups();
+
+        assertThat(statements).isGreaterThanOrEqualTo(4);
+    }
+
+    private long lookups() {
+        tenantContext.getCurrentUser(auth);
+        tenantContext.getSalonId(auth);
+        tenantContext.isSalonAdmin(auth);
+        tenantContext.getSalon(auth);
+
+        return statistics.getPrepareStatementCount();
+    }
+}